@@ -1,28 +1,48 @@
 package noorg.bookparsing;
 
-import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 import noorg.bookparsing.enrich.AbstractBookEnricher;
 import noorg.bookparsing.enrich.BacklogBookEnricher;
 import noorg.bookparsing.enrich.ContributorGenderEnricher;
+import noorg.bookparsing.enrich.EnrichmentPipeline;
+import noorg.bookparsing.enrich.EnrichmentSchedule;
+import noorg.bookparsing.enrich.EnrichmentScheduler;
 import noorg.bookparsing.enrich.GenreEnricher;
 import noorg.bookparsing.enrich.GraphicNovelEnricher;
+import noorg.bookparsing.enrich.IncrementalEnricher;
 import noorg.bookparsing.enrich.ReadHistoryEnricher;
+import noorg.bookparsing.enrich.RuleBasedEnricher;
+import noorg.bookparsing.enrich.ShelfClassifier;
+import noorg.bookparsing.io.CsvRecord;
+import noorg.bookparsing.io.CsvRecordReader;
+import noorg.bookparsing.io.MappedCsvRecordReader;
+import noorg.bookparsing.report.ReportService;
 import noorg.bookparsing.report.format.BookFormatter;
 import noorg.bookparsing.report.format.impl.DefaultBookFormater;
 import noorg.bookparsing.report.impl.AuthorCountsReportService;
 import noorg.bookparsing.report.impl.YearlyReportService;
-import noorg.bookparsing.service.ParsingService;
+import noorg.bookparsing.service.impl.GoodReadsColumn;
 import noorg.bookparsing.service.impl.GoodReadsParsingService;
+import noorg.bookparsing.service.impl.ParallelParsingService;
+import noorg.bookparsing.service.impl.ParseSummary;
 
 /**
  * <p>Copyright 2014-2021 Robert J. Zak
@@ -47,11 +67,36 @@ import noorg.bookparsing.service.impl.GoodReadsParsingService;
 public class BookParsing {
 	private static final Logger logger = LoggerFactory.getLogger(
 			BookParsing.class);
+	
+	/**
+	 * System property to control how many threads parse the export,
+	 * defaults to the number of available processors.
+	 */
+	private static final String PARALLELISM_PROPERTY = "bookparsing.parallelism";
+	
+	/**
+	 * System property to read the export through a memory mapped file instead
+	 * of a stream, useful for bulk re-processing.
+	 */
+	private static final String MAPPED_PROPERTY = "bookparsing.mapped";
+	
+	/**
+	 * System property with the path of a shelf rule file, see
+	 * {@link RuleBasedEnricher}. The rules run after the built in enrichers.
+	 */
+	private static final String RULES_PROPERTY = "bookparsing.rules";
+	
+	/**
+	 * System property with the path of a file to remember enrichment in, so
+	 * books that haven't changed since the last run aren't enriched again.
+	 */
+	private static final String ENRICHMENT_CACHE_PROPERTY = "bookparsing.enrichmentCache";
 
 	public static void main (final String [] args) throws Exception{
 		logger.info("Starting Book Parsing");
 		// TODO write a better main, allow user options/pointing at a file, etc. GUI file chooser?
-		ParsingService<String, Book> parser = new GoodReadsParsingService();
+		final int parallelism = Integer.getInteger(PARALLELISM_PROPERTY,
+				Runtime.getRuntime().availableProcessors());
 		
 		
 		
@@ -64,39 +109,159 @@ public class BookParsing {
 		
 		File file = new File(inputUrl.toURI());
 		
+		// the reports to run
+		BookFormatter formatter = new DefaultBookFormater();
+		final Integer [] years = {2012, 2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021};
+		ReportService [] reports = {
+				new YearlyReportService(years),
+				new AuthorCountsReportService(10)
+		};
+		
+		Set<BookField> required = EnumSet.copyOf(formatter.getRequiredFields());
+		for(ReportService report: reports){
+			required.addAll(report.getRequiredFields());
+		}
+		
+		// do some data enrichment, only what the reports need
+		List<AbstractBookEnricher> enrichers = new ArrayList<>();
+		IncrementalEnricher incremental = null;
+		final String enrichmentCache = System.getProperty(ENRICHMENT_CACHE_PROPERTY);
+		if(enrichmentCache == null){
+			enrichers.addAll(Arrays.asList(
+					new GraphicNovelEnricher(),
+					new ContributorGenderEnricher(),
+					new BacklogBookEnricher(),
+					new ReadHistoryEnricher(),
+					new GenreEnricher()));
+		}else{
+			// everything but the author gender only uses the book's own fields
+			incremental = new IncrementalEnricher(new EnrichmentPipeline(
+					new GraphicNovelEnricher(),
+					new BacklogBookEnricher(),
+					new ReadHistoryEnricher(),
+					new GenreEnricher()));
+			incremental.load(new File(enrichmentCache));
+			enrichers.add(incremental);
+			enrichers.add(new ContributorGenderEnricher());
+		}
+		
+		final String rules = System.getProperty(RULES_PROPERTY);
+		if(rules != null){
+			enrichers.add(RuleBasedEnricher.load(new File(rules)));
+		}
+		
+		List<Book> books = new ArrayList<>();
+		try(EnrichmentScheduler scheduler = new EnrichmentScheduler(enrichers, parallelism)) {
+			final EnrichmentSchedule schedule = scheduler.schedule(required);
+			
+			try {
+				if(Boolean.getBoolean(MAPPED_PROPERTY)){
+					books = parseMapped(file, parallelism, schedule);
+				}else{
+					books = parse(file, parallelism, schedule);
+				}
+			}catch(Exception e){
+				logger.error("Error reading input", e);
+			}
+			
+			// whatever couldn't be done while parsing
+			schedule.enrichBooks(books);
+			logger.debug("{}", ShelfClassifier.getStatistics());
+			
+			if(incremental != null){
+				logger.info("Reused enrichment for {} books, enriched {}",
+						incremental.getReusedCount(), incremental.getEnrichedCount());
+				incremental.save(new File(enrichmentCache));
+			}
+		}
+		
+		// run reports, writing each out as it goes rather than building it in memory
+		final Writer out = new BufferedWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()));
+		for(ReportService report: reports){
+			report.generateReport(books, formatter, out);
+			out.append("\n");
+			out.flush();
+		}
+	}
+	
+	/**
+	 * Stream the export one record at a time
+	 * 
+	 * @param file
+	 * @param parallelism
+	 * @param schedule the enrichment to do while parsing
+	 * @return
+	 * @throws IOException
+	 */
+	private static List<Book> parse(final File file, final int parallelism,
+			final EnrichmentSchedule schedule) throws IOException{
 		List<Book> books = new ArrayList<>();
-		try(BufferedReader br = new BufferedReader(new FileReader(file))) {
-		    for(String line; (line = br.readLine()) != null; ) {
-		    	// TODO better way to skip first line?
-		    	if(line.startsWith("﻿Book Id")){
-		    		continue;
-		    	}
-		    	
-		        final Book book = parser.parse(line);
-		        books.add(book);
+		
+		// read whole records, a review or note may span several lines
+		final GoodReadsParsingService goodReads = new GoodReadsParsingService(
+				GoodReadsColumn.REPORT_COLUMNS);
+		try(ParallelParsingService<String, Book> parser = new ParallelParsingService<>(
+					schedule.attachTo(goodReads), parallelism);
+				CsvRecordReader reader = new CsvRecordReader(new FileInputStream(file))) {
+		    // find the columns from the header, if there is one
+		    final String header = reader.readRecord();
+		    if((header != null) && !goodReads.readHeader(header)){
+		    	books.add(parser.parse(header));
 		    }
-		    // line is not visible here.
-		}catch(Exception e){
-			logger.error("Error reading input", e);
+
+		    books.addAll(parser.parseAll(reader));
+		    goodReads.getParseSummary().recordSkipped(reader.getSkippedCount());
 		}
+		logParseErrors(goodReads);
 		
-		// do some data enrichment
-		AbstractBookEnricher [] enrichers = {
-				new GraphicNovelEnricher(),
-				new ContributorGenderEnricher(),
-				new BacklogBookEnricher(),
-				new ReadHistoryEnricher(),
-				new GenreEnricher()
-		};
+		return books;
+	}
+	
+	/**
+	 * Memory map the export and split it into fields without a separate CSV parse
+	 * 
+	 * @param file
+	 * @param parallelism
+	 * @param schedule the enrichment to do while parsing
+	 * @return
+	 * @throws IOException
+	 */
+	private static List<Book> parseMapped(final File file, final int parallelism,
+			final EnrichmentSchedule schedule) throws IOException{
+		List<Book> books = new ArrayList<>();
 		
-		for(AbstractBookEnricher e: enrichers) {
-			e.enrichBooks(books);
+		final GoodReadsParsingService goodReads = new GoodReadsParsingService(
+				GoodReadsColumn.REPORT_COLUMNS);
+		try(ParallelParsingService<CsvRecord, Book> parser = new ParallelParsingService<>(
+					schedule.attachTo(goodReads.asRecordParser()), parallelism);
+				MappedCsvRecordReader reader = new MappedCsvRecordReader(file.toPath())) {
+			final CsvRecord header = reader.readRecord();
+			if(header != null){
+				if(goodReads.readHeader(header.toArray())){
+					// only decode the columns we're going to use
+					reader.setColumns(goodReads.getColumnPlan().getColumnMask());
+				}else{
+					books.add(parser.parse(header));
+				}
+			}
+			
+			books.addAll(parser.parseAll(reader));
 		}
+		logParseErrors(goodReads);
 		
-		// run reports
-		BookFormatter formatter = new DefaultBookFormater();
-		final Integer [] years = {2012, 2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021};
-		logger.info(new YearlyReportService(years).generateReport(books, formatter));
-		logger.info(new AuthorCountsReportService(10).generateReport(books, formatter));
+		return books;
+	}
+	
+	/**
+	 * Report any values that couldn't be parsed
+	 * @param goodReads
+	 */
+	private static void logParseErrors(final GoodReadsParsingService goodReads){
+		final ParseSummary summary = goodReads.getParseSummary();
+		if(summary.hasErrors()){
+			logger.warn("{}", summary);
+		}else{
+			logger.info("{}", summary);
+		}
 	}
 }
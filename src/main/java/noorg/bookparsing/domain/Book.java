@@ -1,9 +1,8 @@
 package noorg.bookparsing.domain;
 
 import java.time.LocalDate;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
 
 import noorg.bookparsing.domain.types.BookCondition;
 import noorg.bookparsing.domain.types.BookFormat;
@@ -53,7 +52,9 @@ public class Book {
 	private Integer originalPublicationYear;
 	private LocalDate dateRead;
 	private LocalDate dateAdded;
-	private List<String> bookshelves;
+	// shelves as ids from the dictionary, the names are looked up in it
+	private ShelfDictionary shelfDictionary;
+	private BitSet shelves;
 	private List<String> bookshelvesWithPositions;
 	private String exclusiveShelf;
 	private ReadState readState;
@@ -73,7 +74,7 @@ public class Book {
 	// Inferred/converted data
 	private BookFormat format;
 	private BookGenre genre;
-	private Set<Integer> yearsRead = new HashSet<>();
+	private YearSet yearsRead = YearSet.EMPTY;
 	private boolean fromBacklog = false;
 	private Integer firstRead;
 	private boolean readBeforeGoodReads;
@@ -198,24 +199,128 @@ public class Book {
 		this.dateAdded = dateAdded;
 	}
 	
-	public boolean addYearRead(Integer year){
-		return yearsRead.add(year);
+	public boolean addYearRead(int year){
+		final YearSet added = yearsRead.with(year);
+		final boolean changed = (added != yearsRead);
+		yearsRead = added;
+		
+		return changed;
 	}
 
-	public Set<Integer> getYearsRead() {
+	public YearSet getYearsRead() {
 		return yearsRead;
 	}
 
-	public void setYearsRead(Set<Integer> yearsRead) {
-		this.yearsRead = yearsRead;
+	public void setYearsRead(YearSet yearsRead) {
+		this.yearsRead = (yearsRead == null) ? YearSet.EMPTY : yearsRead;
+	}
+
+	/**
+	 * The dictionary the book's shelf ids come from
+	 * @return
+	 */
+	public ShelfDictionary getShelfDictionary() {
+		return shelfDictionary;
+	}
+
+	/**
+	 * Set the dictionary to keep the shelf ids in, this should be done before
+	 * the shelves are set. ie every book parsed from one export shares one.
+	 * @param shelfDictionary
+	 */
+	public void setShelfDictionary(ShelfDictionary shelfDictionary) {
+		this.shelfDictionary = shelfDictionary;
 	}
 
+	/**
+	 * The names of the shelves this book is on, in id order. That's the order
+	 * the shelves were first seen in the export, not the order Goodreads listed
+	 * them for this book.
+	 * 
+	 * @return an unmodifiable list of the shelves, or null if they were never set
+	 */
 	public List<String> getBookshelves() {
-		return bookshelves;
+		List<String> names = null;
+
+		if(shelves != null){
+			String[] shelfNames = new String[shelves.cardinality()];
+			int index = 0;
+			for(int id = nextShelfId(0); id >= 0; id = nextShelfId(id + 1)){
+				shelfNames[index++] = shelfDictionary.getName(id);
+			}
+			names = List.of(shelfNames);
+		}
+
+		return names;
 	}
 
+	/**
+	 * Set the shelves by name, they're kept as ids from the book's
+	 * {@link ShelfDictionary}. A book without one gets its own.
+	 * @param bookshelves
+	 */
 	public void setBookshelves(List<String> bookshelves) {
-		this.bookshelves = bookshelves;
+		if(bookshelves == null){
+			shelves = null;
+		}else{
+			if(shelfDictionary == null){
+				shelfDictionary = new ShelfDictionary();
+			}
+
+			shelves = new BitSet();
+			for(String shelf: bookshelves){
+				shelves.set(shelfDictionary.getId(shelf));
+			}
+		}
+	}
+	
+	/**
+	 * Is the book on the shelf
+	 * @param shelfId the id from the book's {@link ShelfDictionary}
+	 * @return
+	 */
+	public boolean hasShelf(final int shelfId) {
+		return (shelves != null) && (shelfId >= 0) && shelves.get(shelfId);
+	}
+	
+	/**
+	 * Is the book on the shelf
+	 * @param shelf the shelf name
+	 * @return
+	 */
+	public boolean hasShelf(final String shelf) {
+		return (shelfDictionary != null) && hasShelf(shelfDictionary.findId(shelf));
+	}
+	
+	/**
+	 * The number of shelves the book is on
+	 * @return
+	 */
+	public int getShelfCount() {
+		return (shelves == null) ? 0 : shelves.cardinality();
+	}
+	
+	/**
+	 * The first of the book's shelves with an id from the given one on, to
+	 * loop over them in id order:
+	 * <pre>
+	 * for(int id = book.nextShelfId(0); id &gt;= 0; id = book.nextShelfId(id + 1))
+	 * </pre>
+	 * @param fromId
+	 * @return the id from the book's {@link ShelfDictionary}, or -1 if there
+	 * are no more
+	 */
+	public int nextShelfId(final int fromId) {
+		return (shelves == null) ? -1 : shelves.nextSetBit(fromId);
+	}
+	
+	/**
+	 * The name of one of the book's shelves
+	 * @param shelfId the id from the book's {@link ShelfDictionary}
+	 * @return
+	 */
+	public String getShelfName(final int shelfId) {
+		return shelfDictionary.getName(shelfId);
 	}
 
 	public List<String> getBookshelvesWithPositions() {
@@ -385,39 +490,39 @@ public class Book {
 	public String debugString() {
 		StringBuilder sb = new StringBuilder();
 		
-		sb.append("Book [id=").append(id);
-		sb.append(", title=").append(title);
-		sb.append(", author=").append(author);
-		sb.append(", additionalContributors=").append(additionalContributors);
-		sb.append(", isbn=").append(isbn);
-		sb.append(", isbn13=").append(isbn13);
-		sb.append(", myRating=").append(myRating);
-		sb.append(", averageRating=").append(averageRating);
-		sb.append(", publisher=").append(publisher);
-		sb.append(", binding=").append(binding);
-		sb.append(", numberOfPages=").append(numberOfPages);
-		sb.append(", yearOfPublication=").append(yearOfPublication);
-		sb.append(", originalPublicationYear=").append(originalPublicationYear);
-		sb.append(", dateRead=").append(dateRead);
-		sb.append(", dateAdded=").append(dateAdded);
+		sb.append("Book [id=").append(getId());
+		sb.append(", title=").append(getTitle());
+		sb.append(", author=").append(getAuthor());
+		sb.append(", additionalContributors=").append(getAdditionalContributors());
+		sb.append(", isbn=").append(getIsbn());
+		sb.append(", isbn13=").append(getIsbn13());
+		sb.append(", myRating=").append(getMyRating());
+		sb.append(", averageRating=").append(getAverageRating());
+		sb.append(", publisher=").append(getPublisher());
+		sb.append(", binding=").append(getBinding());
+		sb.append(", numberOfPages=").append(getNumberOfPages());
+		sb.append(", yearOfPublication=").append(getYearOfPublication());
+		sb.append(", originalPublicationYear=").append(getOriginalPublicationYear());
+		sb.append(", dateRead=").append(getDateRead());
+		sb.append(", dateAdded=").append(getDateAdded());
 		sb.append(", yearsRead=").append(yearsRead);
-		sb.append(", bookshelves=").append(bookshelves);
-		sb.append(", bookshelvesWithPositions=").append(bookshelvesWithPositions);
-		sb.append(", exclusiveShelf=").append(exclusiveShelf);
+		sb.append(", bookshelves=").append(getBookshelves());
+		sb.append(", bookshelvesWithPositions=").append(getBookshelvesWithPositions());
+		sb.append(", exclusiveShelf=").append(getExclusiveShelf());
 		sb.append(", readState=").append(readState);
 		sb.append(", fromBacklog=").append(fromBacklog);
-		sb.append(", myReview=").append(myReview);
-		sb.append(", spoiler=").append(spoiler);
-		sb.append(", privateNotes=").append(privateNotes);
-		sb.append(", readCount=").append(readCount);
-		sb.append(", recommendedFor=").append(recommendedFor);
-		sb.append(", recommendedBy=").append(recommendedBy);
-		sb.append(", ownedCopies=").append(ownedCopies);
-		sb.append(", purchaseDate=").append(purchaseDate);
-		sb.append(", purchaseLocation=").append(purchaseLocation);
-		sb.append(", condition=").append(condition);
-		sb.append(", conditionDescription=").append(conditionDescription);
-		sb.append(", bcid=").append(bcid);
+		sb.append(", myReview=").append(getMyReview());
+		sb.append(", spoiler=").append(getSpoiler());
+		sb.append(", privateNotes=").append(getPrivateNotes());
+		sb.append(", readCount=").append(getReadCount());
+		sb.append(", recommendedFor=").append(getRecommendedFor());
+		sb.append(", recommendedBy=").append(getRecommendedBy());
+		sb.append(", ownedCopies=").append(getOwnedCopies());
+		sb.append(", purchaseDate=").append(getPurchaseDate());
+		sb.append(", purchaseLocation=").append(getPurchaseLocation());
+		sb.append(", condition=").append(getCondition());
+		sb.append(", conditionDescription=").append(getConditionDescription());
+		sb.append(", bcid=").append(getBcid());
 		sb.append(", format=").append(format);
 		sb.append(", genre=").append(genre);
 		sb.append("]");
@@ -430,8 +535,8 @@ public class Book {
 	public String toString() {
 		final StringBuilder sb = new StringBuilder();
 		
-		sb.append(title).append(" by ");
-		sb.append(author);
+		sb.append(getTitle()).append(" by ");
+		sb.append(getAuthor());
 		
 		return sb.toString();
 	}
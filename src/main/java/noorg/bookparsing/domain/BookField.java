@@ -0,0 +1,48 @@
+package noorg.bookparsing.domain;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>The fields of a {@link Book} that enrichers and reports work with. Used by
+ * enrichers to declare what they read and write, and by reports to declare
+ * what they need, so the enrichers can be ordered and unneeded ones skipped.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public enum BookField {
+	// parsed from the export
+	BOOK_ID,
+	TITLE,
+	AUTHOR,
+	MY_RATING,
+	BINDING,
+	NUMBER_OF_PAGES,
+	YEAR_OF_PUBLICATION,
+	ORIGINAL_PUBLICATION_YEAR,
+	DATE_READ,
+	BOOKSHELVES,
+	EXCLUSIVE_SHELF,
+	READ_COUNT,
+
+	// derived by the enrichers
+	FORMAT,
+	GENRE,
+	AUTHOR_GENDER,
+	YEARS_READ,
+	FIRST_READ,
+	FROM_BACKLOG,
+	READ_BEFORE_GOODREADS;
+}
@@ -101,7 +101,8 @@ public class Contributor {
 				+ ((firstName == null) ? 0 : firstName.hashCode());
 		result = prime * result
 				+ ((lastName == null) ? 0 : lastName.hashCode());
-		result = prime * result + ((role == null) ? 0 : role.hashCode());
+		// not role.hashCode(), an enum's identity hash changes from run to run
+		result = prime * result + ((role == null) ? 0 : role.name().hashCode());
 		return result;
 	}
 
@@ -0,0 +1,108 @@
+package noorg.bookparsing.domain;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Gives every distinct shelf name a small integer id, so a {@link Book} can
+ * hold its shelves as a {@link java.util.BitSet} of ids and check one with a
+ * single bit test instead of scanning a list of strings. Ids are handed out in
+ * the order shelves are first seen and never change.
+ *
+ * <p>Each parse of an export gets its own dictionary, owned by the parsing
+ * service, so the ids stay small and go away with the books. Safe to use from
+ * multiple threads.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public final class ShelfDictionary {
+	/**
+	 * Returned by {@link #findId(String)} for a shelf that has never been seen
+	 */
+	public static final int UNKNOWN = -1;
+
+	private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+	private final Object lock = new Object();
+
+	private volatile String[] names = new String[64];
+	private int count; // guarded by lock
+
+	public ShelfDictionary() {
+		super();
+	}
+
+	/**
+	 * Get the id of the shelf, assigning one if it hasn't been seen before
+	 *
+	 * @param shelf
+	 * @return
+	 */
+	public int getId(final String shelf){
+		Integer id = ids.get(shelf);
+
+		if(id == null){
+			synchronized(lock){
+				id = ids.get(shelf);
+
+				if(id == null){
+					if(count == names.length){
+						names = Arrays.copyOf(names, count * 2);
+					}
+					names[count] = shelf;
+					id = count++;
+
+					// only publish the id once its name can be looked up
+					ids.put(shelf, id);
+				}
+			}
+		}
+
+		return id;
+	}
+
+	/**
+	 * Get the id of the shelf without assigning a new one
+	 *
+	 * @param shelf
+	 * @return the id or {@link #UNKNOWN}
+	 */
+	public int findId(final String shelf){
+		final Integer id = ids.get(shelf);
+
+		return (id == null) ? UNKNOWN : id;
+	}
+
+	/**
+	 * Get the name of a shelf
+	 *
+	 * @param id
+	 * @return
+	 */
+	public String getName(final int id){
+		return names[id];
+	}
+
+	/**
+	 * The number of shelves seen so far, ids are always less than this
+	 * @return
+	 */
+	public int size(){
+		return ids.size();
+	}
+}
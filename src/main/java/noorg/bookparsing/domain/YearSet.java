@@ -0,0 +1,142 @@
+package noorg.bookparsing.domain;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>The years a book was read, kept as a sorted array of ints. A book is only
+ * read in a handful of years, if at all, so this avoids a collection and
+ * boxed years for every book.
+ *
+ * <p>A year set never changes, adding a year returns a new set. Books that
+ * haven't been read all share {@link #EMPTY}.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public final class YearSet {
+	/**
+	 * No years
+	 */
+	public static final YearSet EMPTY = new YearSet(new int[0]);
+
+	private final int[] years;
+
+	private YearSet(final int[] years) {
+		super();
+		this.years = years;
+	}
+
+	/**
+	 * Create a set of the years, duplicates are ignored
+	 *
+	 * @param years
+	 * @return
+	 */
+	public static YearSet of(final int... years){
+		YearSet set = EMPTY;
+
+		if(years.length > 0){
+			int[] sorted = years.clone();
+			Arrays.sort(sorted);
+
+			int count = 1;
+			for(int i=1;i<sorted.length;i++){
+				if(sorted[i] != sorted[count - 1]){
+					sorted[count++] = sorted[i];
+				}
+			}
+			set = new YearSet(Arrays.copyOf(sorted, count));
+		}
+
+		return set;
+	}
+
+	/**
+	 * Add a year
+	 *
+	 * @param year
+	 * @return a set with the year, this set if it was already there
+	 */
+	public YearSet with(final int year){
+		YearSet set = this;
+
+		final int index = Arrays.binarySearch(years, year);
+		if(index < 0){
+			final int insert = -(index + 1);
+			int[] added = new int[years.length + 1];
+			System.arraycopy(years, 0, added, 0, insert);
+			added[insert] = year;
+			System.arraycopy(years, insert, added, insert + 1, years.length - insert);
+			set = new YearSet(added);
+		}
+
+		return set;
+	}
+
+	public boolean contains(final int year){
+		return Arrays.binarySearch(years, year) >= 0;
+	}
+
+	public int size(){
+		return years.length;
+	}
+
+	public boolean isEmpty(){
+		return years.length == 0;
+	}
+
+	/**
+	 * Get a year by position, the years are in increasing order
+	 *
+	 * @param index
+	 * @return
+	 */
+	public int get(final int index){
+		return years[index];
+	}
+
+	/**
+	 * The earliest year
+	 *
+	 * @return
+	 * @throws NoSuchElementException if the set is empty
+	 */
+	public int first(){
+		if(years.length == 0){
+			throw new NoSuchElementException("No years");
+		}
+
+		return years[0];
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(years);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return (this == obj) || ((obj instanceof YearSet)
+				&& Arrays.equals(years, ((YearSet)obj).years));
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(years);
+	}
+}
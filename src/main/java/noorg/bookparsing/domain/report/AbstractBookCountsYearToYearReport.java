@@ -28,9 +28,9 @@ import java.util.TreeSet;
 public abstract class AbstractBookCountsYearToYearReport <T> extends
 		AbstractYearToYearReport {
 	private static final int DEFAULT_DATA_WIDTH = 15;
-	private final String DATA_FORMAT;
+	private static final int TOTAL_WIDTH = 8;
 	
-	private SortedSet<T> dataKeys = new TreeSet<>();
+	private SortedSet<T> dataKeys;
 
 	/**
 	 * Generate a year-to-year report using the {@link #DEFAULT_DATA_WIDTH}
@@ -46,25 +46,33 @@ public abstract class AbstractBookCountsYearToYearReport <T> extends
 	 * @param dataWidth
 	 */
 	public AbstractBookCountsYearToYearReport(final List<YearlyReport> reports, final int dataWidth) {
-		super(reports);
-		
-		DATA_FORMAT = "%-" + dataWidth + "s";
-		
-		// Initialize Data Keys
-		for(YearlyReport yearlyReport: reports){
-			Map<T, Integer> dataMap = getDataMap(yearlyReport);
-			dataKeys.addAll(dataMap.keySet());
+		super(reports, new FixedWidthTable(dataWidth, YEAR_WIDTH, TOTAL_WIDTH));
+	}
+	
+	/**
+	 * The keys from all the reports, found the first time they are needed so
+	 * subclasses are fully constructed before {@link #getDataMap(YearlyReport)}
+	 * is called
+	 * @return
+	 */
+	private SortedSet<T> getDataKeys(){
+		if(dataKeys == null){
+			dataKeys = new TreeSet<>();
+			for(YearlyReport yearlyReport: getReports()){
+				Map<T, Integer> dataMap = getDataMap(yearlyReport);
+				dataKeys.addAll(dataMap.keySet());
+			}
 		}
+		
+		return dataKeys;
 	}
 
 	@Override
-	protected String getReportHeaders() {
-		StringBuilder sb = new StringBuilder();
-		
-		sb.append(String.format(YEAR_TOTAL_FORMAT, "Year", "Total"));
-		sb.append(getDataHeaders());
-		
-		return sb.toString();
+	protected void addReportHeaders(final FixedWidthTable table) {
+		table.cell("Year").cell("Total");
+		for(T value: getDataKeys()){
+			table.cell(value);
+		}
 	}
 	
 	/**
@@ -74,37 +82,16 @@ public abstract class AbstractBookCountsYearToYearReport <T> extends
 	 */
 	protected abstract Map<T, Integer> getDataMap(final YearlyReport yearlyReport);
 
-	/**
-	 * Helper to generate the Report Headers from the data keys
-	 * @return
-	 */
-	private String getDataHeaders(){
-		StringBuilder sb = new StringBuilder();
-		
-		for(T value: dataKeys){
-			sb.append(String.format(DATA_FORMAT, value));
-		}
-		
-		return sb.toString();
-	}
-
 	@Override
-	protected String getReportRow(YearlyReport yearlyReport) {
-		StringBuilder sb = new StringBuilder();
-		
+	protected void addReportRow(final FixedWidthTable table, final YearlyReport yearlyReport) {
+		final int total = yearlyReport.getTotal();
 		
-		final String year = Integer.toString(yearlyReport.getYear());
-		final String total = Integer.toString(yearlyReport.getTotal());
-		
-		// append the report year and total number of books
-		sb.append(String.format(YEAR_TOTAL_FORMAT, year, total));
+		// the report year and total number of books
+		table.cell(yearlyReport.getYear()).cell(total);
 		
 		Map<T, Integer> countMap = getDataMap(yearlyReport);
-		for(T key: dataKeys){
-			Integer count = yearlyReport.getMapCount(countMap, key);
-			sb.append(String.format(DATA_FORMAT, getCountPercent(yearlyReport, count)));
+		for(T key: getDataKeys()){
+			table.countPercent(yearlyReport.getMapCount(countMap, key), total);
 		}
-		
-		return sb.toString();
 	}
 }
@@ -1,12 +1,14 @@
 package noorg.bookparsing.domain.report;
 
+import java.io.IOException;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.YearSet;
 import noorg.bookparsing.report.format.BookFormatter;
 
 /**
@@ -39,8 +41,7 @@ public abstract class AbstractMultipleYearReport extends AbstractReport{
 		boolean addBook = false;
 		
 		// only add books that have been read
-		Set<Integer> yearsRead = book.getYearsRead();
-		if((yearsRead != null) && (yearsRead.size()>0)){
+		if(!book.getYearsRead().isEmpty()){
 			addBook = true;
 		}
 		
@@ -49,12 +50,12 @@ public abstract class AbstractMultipleYearReport extends AbstractReport{
 
 	@Override
 	protected void processAddedBook(Book book) {
-		Set<Integer> years = book.getYearsRead();
+		final YearSet years = book.getYearsRead();
 		
 		// if added, count by year
-		if((years != null) && (!years.isEmpty())){
-			for(Integer bookYear: years){
-				incrementYear(bookYear, book);
+		if(!years.isEmpty()){
+			for(int i=0;i<years.size();i++){
+				incrementYear(years.get(i), book);
 			}
 		}else{
 			incrementYear(UNKNOWN_YEAR, book);
@@ -62,18 +63,10 @@ public abstract class AbstractMultipleYearReport extends AbstractReport{
 		
 	}
 	
-	private void incrementYear(final Integer bookYear, final Book book){
-		int yearKey;
-		
-		if(bookYear != null){
-			yearKey = bookYear;
-		}else{
-			yearKey = UNKNOWN_YEAR;
-		}
-		
-		Set<Book> yearBooks = booksByYear.get(yearKey);
+	private void incrementYear(final int bookYear, final Book book){
+		Set<Book> yearBooks = booksByYear.get(bookYear);
 		if(yearBooks == null){
-			yearBooks = new HashSet<>();
+			yearBooks = new LinkedHashSet<>();
 			booksByYear.put(bookYear, yearBooks);
 		}
 		
@@ -81,12 +74,10 @@ public abstract class AbstractMultipleYearReport extends AbstractReport{
 	}
 	
 	@Override
-	public String getReport(BookFormatter formatter) {
-		StringBuilder sb = new StringBuilder();
-		
-		sb.append("\n\n").append(getReportHeader()).append("\n");
-		sb.append("Total Books: ").append(getTotal()).append("\n");
-		sb.append("Year Breakdown:\n");
+	public void appendReport(final Appendable out, final BookFormatter formatter) throws IOException {
+		out.append("\n\n").append(getReportHeader()).append("\n");
+		out.append("Total Books: ").append(String.valueOf(getTotal())).append("\n");
+		out.append("Year Breakdown:\n");
 		
 		SortedSet<Integer> yearsSorted = new TreeSet<Integer>(booksByYear.keySet());
 		
@@ -96,18 +87,16 @@ public abstract class AbstractMultipleYearReport extends AbstractReport{
 			// TODO null check on year?
 			if(yearBooks != null){
 				if(UNKNOWN_YEAR == year){
-					sb.append("\nNone: ");
+					out.append("\nNone: ");
 				}else{
-					sb.append("\n").append(year).append(": ");
+					out.append("\n").append(String.valueOf(year)).append(": ");
 				}
 				
-				sb.append(yearBooks.size());
-				sb.append("\n\n");
-				sb.append(formatBookList(yearBooks, formatter));
+				out.append(String.valueOf(yearBooks.size()));
+				out.append("\n\n");
+				appendBookList(out, yearBooks, formatter);
 			}
 		}
-		
-		return sb.toString();
 	}
 	
 	protected abstract String getReportHeader();
@@ -1,10 +1,11 @@
 package noorg.bookparsing.domain.report;
 
-import java.text.DecimalFormat;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -15,6 +16,7 @@ import noorg.bookparsing.domain.Book;
 import noorg.bookparsing.report.format.BookFormatter;
 import noorg.bookparsing.report.format.impl.DefaultBookFormater;
 import noorg.bookparsing.report.sort.AscendingDateReadComparator;
+import noorg.bookparsing.util.FixedPointFormat;
 import noorg.bookparsing.util.Utils;
 
 import org.slf4j.Logger;
@@ -45,10 +47,10 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractReport implements Report{
 	protected static final Logger logger = LoggerFactory.getLogger(
 			AbstractReport.class);
-	protected static final DecimalFormat DECIMAL_FORMAT = 
-			new DecimalFormat("###.##");
+	protected static final FixedPointFormat DECIMAL_FORMAT = new FixedPointFormat(2);
 
-	protected Set<Book> books = new HashSet<>();
+	// in the order added, so books read the same day are listed the same way every run
+	protected Set<Book> books = new LinkedHashSet<>();
 
 	@Override
 	public String toString(){
@@ -103,6 +105,24 @@ public abstract class AbstractReport implements Report{
 		return getReport(new DefaultBookFormater());
 	}
 	
+	/**
+	 * Reports are written with {@link #appendReport(Appendable, BookFormatter)},
+	 * this just collects it in a string.
+	 */
+	@Override
+	public String getReport(final BookFormatter formatter) {
+		StringBuilder sb = new StringBuilder();
+		
+		try {
+			appendReport(sb, formatter);
+		} catch (IOException e) {
+			// a StringBuilder doesn't throw
+			throw new UncheckedIOException(e);
+		}
+		
+		return sb.toString();
+	}
+	
 	/**
 	 * How many books in this report
 	 * @return
@@ -112,26 +132,26 @@ public abstract class AbstractReport implements Report{
 	}
 	
 	/**
+	 * Write out the books sorted by read date, one per line
 	 * 
+	 * @param out
 	 * @param books
 	 * @param formatter
-	 * @return
+	 * @throws IOException
 	 */
-	protected String formatBookList(final Collection<Book> books, final BookFormatter formatter){
-		StringBuilder sb = new StringBuilder();
+	protected void appendBookList(final Appendable out, final Collection<Book> books,
+			final BookFormatter formatter) throws IOException{
 		// TODO tabs or some better spacing..
 		// sort by read date
 		final List<Book> bookList = new ArrayList<>(books);
 		Collections.sort(bookList, new AscendingDateReadComparator());
 		
-		sb.append(formatter.getFormatHeaders()).append("\n");
+		out.append(String.valueOf(formatter.getFormatHeaders())).append("\n");
 		for(Book book: bookList){
-			sb.append(formatter.format(book)).append("\n");
+			out.append(String.valueOf(formatter.format(book))).append("\n");
 		}
 		
-		sb.append("\n");		
-		
-		return sb.toString();
+		out.append("\n");
 	}
 	
 	/**
@@ -161,6 +181,32 @@ public abstract class AbstractReport implements Report{
 	}
 	
 
+	/**
+	 * Helper to increment an {@link EnumCounter}, without allocating
+	 * @param counter
+	 * @param key
+	 */
+	protected <K extends Enum<K>> void incrementCount(final EnumCounter<K> counter, final K key){
+		if(key != null){
+			counter.increment(key);
+		}else{
+			logger.warn("Cannot Increment null key {}", key);
+		}
+	}
+	
+	/**
+	 * Helper to increment an {@link IntCounter}, without allocating
+	 * @param counter
+	 * @param key
+	 */
+	protected void incrementCount(final IntCounter counter, final Integer key){
+		if(key != null){
+			counter.increment(key);
+		}else{
+			logger.warn("Cannot Increment null key {}", key);
+		}
+	}
+
 	/**
 	 * Helper to get the count from a map accounting for a key that may not exist
 	 * 
@@ -180,16 +226,15 @@ public abstract class AbstractReport implements Report{
 	}
 	
 	/**
-	 * Helper to convert a map into rows of output of the form:
+	 * Helper to write a map out as rows of the form:
 	 * 
 	 * Total KEY Count: VALUE (PERCENT)
 	 * 
+	 * @param out
 	 * @param map
-	 * @return
+	 * @throws IOException
 	 */
-	protected String getCounts(final Map<?,Integer> map){
-		StringBuilder sb = new StringBuilder();
-		
+	protected void appendCounts(final Appendable out, final Map<?,Integer> map) throws IOException{
 		// Sort the Keys
 		SortedSet<Object> sortedKeys = new TreeSet<Object>(map.keySet());
 		
@@ -198,11 +243,9 @@ public abstract class AbstractReport implements Report{
 			final String countStr = Utils.getString(count);
 			final String percent = getPercentAsString(count);
 			
-			sb.append("Total ").append(key).append(" Count: ").append(countStr);
-			sb.append(" (").append(percent).append("%)").append("\n");
+			out.append("Total ").append(String.valueOf(key)).append(" Count: ").append(countStr);
+			out.append(" (").append(percent).append("%)").append("\n");
 		}
-		
-		return sb.toString();
 	}
 	
 	/**
@@ -215,13 +258,15 @@ public abstract class AbstractReport implements Report{
 	 * TODO should this be public, or moved elsewhere (with total as second param)?
 	 */
 	public String getPercentAsString(final Integer count){
-		double percent = 0.0;
+		final StringBuilder sb = new StringBuilder();
 		
 		if(count != null){
-			percent = ((double)(count*100))/books.size();
+			FixedPointFormat.appendPercent(sb, count, books.size());
+		}else{
+			sb.append("0.00");
 		}
 		
-		return String.format("%.2f", percent);
+		return sb.toString();
 	}
 	
 
@@ -1,6 +1,8 @@
 package noorg.bookparsing.domain.report;
 
 import java.awt.print.Book;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 
@@ -33,14 +35,27 @@ import java.util.List;
  */
 public abstract class AbstractYearToYearReport{
 	private static final String DIVIDER = "-";
-	protected static final String YEAR_TOTAL_FORMAT = "%-8s%-8s";
-	protected static final String COUNT_PERCENT_FORMAT = "%d (%s%%)";
+	protected static final int YEAR_WIDTH = 8;
 	
 	private final List<YearlyReport> reports;
+	private final FixedWidthTable table;
 	
-	public AbstractYearToYearReport(List<YearlyReport> reports) {
+	/**
+	 * @param reports
+	 * @param table the layout of the columns, starting with the year
+	 */
+	public AbstractYearToYearReport(List<YearlyReport> reports, FixedWidthTable table) {
 		super();
 		this.reports = reports;
+		this.table = table;
+	}
+	
+	/**
+	 * The yearly reports being compared
+	 * @return
+	 */
+	protected List<YearlyReport> getReports() {
+		return reports;
 	}
 	
 	/**
@@ -51,16 +66,34 @@ public abstract class AbstractYearToYearReport{
 	public String getReport(){
 		StringBuilder sb = new StringBuilder();
 		
+		try {
+			appendReport(sb);
+		} catch (IOException e) {
+			// a StringBuilder doesn't throw
+			throw new UncheckedIOException(e);
+		}
 		
-		sb.append(getReportLabel()).append(":\n\n");
-		sb.append(getReportHeaders()).append("\n");
-		sb.append(getDivider()).append("\n");
+		return sb.toString();
+	}
+	
+	/**
+	 * Write this report out a row at a time
+	 * 
+	 * @param out
+	 * @throws IOException
+	 */
+	public void appendReport(final Appendable out) throws IOException{
+		out.append(getReportLabel()).append(":\n\n");
+		addReportHeaders(table);
+		table.appendRow(out);
+		out.append("\n");
+		out.append(getDivider()).append("\n");
 		
 		for(YearlyReport yearlyReport: reports){
-			sb.append(getReportRow(yearlyReport)).append("\n");
+			addReportRow(table, yearlyReport);
+			table.appendRow(out);
+			out.append("\n");
 		}
-		
-		return sb.toString();
 	}
 	
 	/**
@@ -77,19 +110,6 @@ public abstract class AbstractYearToYearReport{
 		return sb.toString();
 	}
 	
-	/**
-	 * Get the formatted string for the provided count and the 
-	 * percentage of the total read for the given yearly report
-	 * 
-	 * @param yearlyReport
-	 * @param count
-	 * @return
-	 */
-	protected String getCountPercent(final YearlyReport yearlyReport, final int count) {
-		final String percent = yearlyReport.getPercentAsString(count);
-		return String.format(COUNT_PERCENT_FORMAT, count, percent);
-	}
-	
 	/**
 	 * A label for the report type
 	 * @return
@@ -97,17 +117,17 @@ public abstract class AbstractYearToYearReport{
 	protected abstract String getReportLabel();
 	
 	/**
-	 * The headers for the year to year table
-	 * @return
+	 * Add the headers for the year to year table
+	 * @param table
 	 */
-	protected abstract String getReportHeaders();
+	protected abstract void addReportHeaders(final FixedWidthTable table);
 	
 	/**
-	 * Convert the given {@link YearlyReport} into a report row
+	 * Add a report row for the given {@link YearlyReport}
+	 * @param table
 	 * @param yearlyReport
-	 * @return
 	 */
-	protected abstract String getReportRow(final YearlyReport yearlyReport);
+	protected abstract void addReportRow(final FixedWidthTable table, final YearlyReport yearlyReport);
 	
 	/**
 	 * Each concrete report should specify how wide to make the dividing line
@@ -24,22 +24,9 @@ import java.util.List;
  */
 public class BacklogYearToYearReport  extends AbstractYearToYearReport {
 	private static final int DATA_WIDTH  = 15;
-	private static final int NUM_COLUMNS  = 4;
-	private final String format;
-	
 
 	public BacklogYearToYearReport(final List<YearlyReport> reports) {
-		super(reports);
-		
-		StringBuilder formatBuilder = new StringBuilder();
-		formatBuilder.append("%-8s"); // year
-		for(int i=0;i<NUM_COLUMNS;i++){
-			formatBuilder.append("%-");
-			formatBuilder.append(DATA_WIDTH);
-			formatBuilder.append("s");
-		}
-		
-		format = formatBuilder.toString();
+		super(reports, new FixedWidthTable(DATA_WIDTH, YEAR_WIDTH));
 	}
 
 	@Override
@@ -48,19 +35,20 @@ public class BacklogYearToYearReport  extends AbstractYearToYearReport {
 	}
 
 	@Override
-	protected String getReportHeaders() {
-		return String.format(format,
-				"Year", "Total Read", "Backlog Read", "Backlog Books", "Backlog Audio");
+	protected void addReportHeaders(final FixedWidthTable table) {
+		table.cell("Year").cell("Total Read").cell("Backlog Read").cell("Backlog Books")
+				.cell("Backlog Audio");
 	}
 
 	@Override
-	protected String getReportRow(YearlyReport yearlyReport) {		
-		return String.format(format,
-				yearlyReport.getYear(),
-				yearlyReport.getTotal(),
-				getCountPercent(yearlyReport, yearlyReport.getTotalBacklogRead()),
-				getCountPercent(yearlyReport, yearlyReport.getTotalBacklogBooksRead()),
-				getCountPercent(yearlyReport, yearlyReport.getTotalBacklogAudioBooks()));
+	protected void addReportRow(final FixedWidthTable table, final YearlyReport yearlyReport) {
+		final int total = yearlyReport.getTotal();
+		
+		table.cell(yearlyReport.getYear())
+				.cell(total)
+				.countPercent(yearlyReport.getTotalBacklogRead(), total)
+				.countPercent(yearlyReport.getTotalBacklogBooksRead(), total)
+				.countPercent(yearlyReport.getTotalBacklogAudioBooks(), total);
 	}
 
 	@Override
@@ -0,0 +1,163 @@
+package noorg.bookparsing.domain.report;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Counts kept in an int[] with a slot for each key, so counting doesn't
+ * box or allocate. The counts can be read as a {@link Map} with
+ * {@link #asMap()}, which only has the keys that were counted, like a map
+ * built with {@link AbstractReport#incrementMapValue(Map, Object)}.
+ *
+ * <p>Counters aren't thread safe.
+ *
+ * @author Robert J. Zak
+ *
+ * @param <K> the key type
+ */
+public abstract class Counter<K> {
+	private final Map<K, Integer> view = new CountsView();
+
+	/**
+	 * The number of slots
+	 * @return
+	 */
+	protected abstract int getSlotCount();
+
+	/**
+	 * The key for a slot
+	 * @param slot
+	 * @return
+	 */
+	protected abstract K getKey(int slot);
+
+	/**
+	 * The count in a slot
+	 * @param slot
+	 * @return
+	 */
+	protected abstract int getCount(int slot);
+
+	/**
+	 * The slot for a key
+	 * @param key
+	 * @return the slot or -1 if the key has no slot
+	 */
+	protected abstract int getSlot(Object key);
+
+	/**
+	 * Get the count for a key
+	 *
+	 * @param key
+	 * @return the count, 0 if the key wasn't counted
+	 */
+	public int get(final Object key){
+		final int slot = getSlot(key);
+
+		return (slot < 0) ? 0 : getCount(slot);
+	}
+
+	/**
+	 * A read only view of the counts, changes as the counts do
+	 * @return
+	 */
+	public Map<K, Integer> asMap() {
+		return view;
+	}
+
+	@Override
+	public String toString() {
+		return view.toString();
+	}
+
+	/**
+	 * The counted keys as a map
+	 */
+	private class CountsView extends AbstractMap<K, Integer> {
+		private final Set<Map.Entry<K, Integer>> entries = new AbstractSet<Map.Entry<K, Integer>>() {
+			@Override
+			public Iterator<Map.Entry<K, Integer>> iterator() {
+				return new CountsIterator();
+			}
+
+			@Override
+			public int size() {
+				int size = 0;
+				for(int slot=0;slot<getSlotCount();slot++){
+					if(getCount(slot) != 0){
+						size++;
+					}
+				}
+
+				return size;
+			}
+		};
+
+		@Override
+		public Set<Map.Entry<K, Integer>> entrySet() {
+			return entries;
+		}
+
+		@Override
+		public Integer get(final Object key) {
+			final int count = Counter.this.get(key);
+
+			return (count == 0) ? null : count;
+		}
+
+		@Override
+		public boolean containsKey(final Object key) {
+			return Counter.this.get(key) != 0;
+		}
+	}
+
+	/**
+	 * Steps through the slots that have a count
+	 */
+	private class CountsIterator implements Iterator<Map.Entry<K, Integer>> {
+		private int next = advance(0);
+
+		@Override
+		public boolean hasNext() {
+			return next < getSlotCount();
+		}
+
+		@Override
+		public Map.Entry<K, Integer> next() {
+			if(!hasNext()){
+				throw new NoSuchElementException();
+			}
+
+			final int slot = next;
+			next = advance(slot + 1);
+
+			return new AbstractMap.SimpleImmutableEntry<>(getKey(slot), getCount(slot));
+		}
+
+		private int advance(int slot){
+			while((slot < getSlotCount()) && (getCount(slot) == 0)){
+				slot++;
+			}
+
+			return slot;
+		}
+	}
+}
@@ -18,25 +18,33 @@ import java.util.Map;
  * See the License for the specific language governing permissions and
  * limitations under the License.
  * 
- * <p>Compare how many books were read from each decade every year
+ * <p>Compare how many books were read from each decade every year, or from
+ * each bucket of some other {@link YearBucketing}
  *
  * @author Robert J. Zak
  *
  */
 public class DecadeYearToYearReport extends AbstractBookCountsYearToYearReport<Integer> {
 
+	private final YearBucketing bucketing;
+
 	public DecadeYearToYearReport(List<YearlyReport> reports) {
+		this(reports, YearBucketing.DECADE);
+	}
+
+	public DecadeYearToYearReport(List<YearlyReport> reports, YearBucketing bucketing) {
 		super(reports);
+		this.bucketing = bucketing;
 	}
 
 	@Override
 	protected String getReportLabel() {
-		return "Decade Counts";
+		return bucketing.getLabel() + " Counts";
 	}
 
 	@Override
 	protected Map<Integer, Integer> getDataMap(YearlyReport yearlyReport) {
-		return yearlyReport.getCountsByDecadePublished();
+		return yearlyReport.getCountsByPublished(bucketing);
 	}
 
 	@Override
@@ -0,0 +1,73 @@
+package noorg.bookparsing.domain.report;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Counts by enum value, with a slot for each ordinal.
+ *
+ * @author Robert J. Zak
+ *
+ * @param <E>
+ */
+public class EnumCounter<E extends Enum<E>> extends Counter<E> {
+	private final Class<E> type;
+	private final E[] values;
+	private final int[] counts;
+
+	public EnumCounter(final Class<E> type) {
+		super();
+		this.type = type;
+		this.values = type.getEnumConstants();
+		this.counts = new int[values.length];
+	}
+
+	/**
+	 * Add one to the count for the value
+	 * @param value
+	 */
+	public void increment(final E value){
+		counts[value.ordinal()]++;
+	}
+
+	/**
+	 * Add the counts from another counter
+	 * @param other
+	 */
+	public void merge(final EnumCounter<E> other){
+		for(int i=0;i<counts.length;i++){
+			counts[i] += other.counts[i];
+		}
+	}
+
+	@Override
+	protected int getSlotCount() {
+		return counts.length;
+	}
+
+	@Override
+	protected E getKey(final int slot) {
+		return values[slot];
+	}
+
+	@Override
+	protected int getCount(final int slot) {
+		return counts[slot];
+	}
+
+	@Override
+	protected int getSlot(final Object key) {
+		return type.isInstance(key) ? ((Enum<?>)key).ordinal() : -1;
+	}
+}
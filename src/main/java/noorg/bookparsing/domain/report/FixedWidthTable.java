@@ -0,0 +1,137 @@
+package noorg.bookparsing.domain.report;
+
+import java.io.IOException;
+
+import noorg.bookparsing.util.FixedPointFormat;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Writes rows of left justified, space padded columns, the same as a
+ * format of <code>%-Ns</code> for each column. The column widths are fixed
+ * up front and the cells are written straight into a reused buffer, so
+ * nothing is parsed or allocated per cell. A value wider than its column is
+ * written whole, pushing the rest of the row over.
+ *
+ * <p>A table isn't thread safe.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class FixedWidthTable {
+	private final int columnWidth;
+	private final int[] leadingWidths;
+	private final StringBuilder row = new StringBuilder();
+	private int column;
+	private int columnEnd;
+
+	/**
+	 * @param columnWidth the width of the columns after the leading ones
+	 * @param leadingWidths the widths of the first columns, ie the year
+	 */
+	public FixedWidthTable(final int columnWidth, final int... leadingWidths) {
+		super();
+		this.columnWidth = columnWidth;
+		this.leadingWidths = leadingWidths.clone();
+	}
+
+	/**
+	 * Add a cell to the current row
+	 * @param value
+	 * @return this
+	 */
+	public FixedWidthTable cell(final CharSequence value){
+		row.append(value);
+
+		return pad();
+	}
+
+	/**
+	 * Add a cell to the current row
+	 * @param value
+	 * @return this
+	 */
+	public FixedWidthTable cell(final int value){
+		row.append(value);
+
+		return pad();
+	}
+
+	/**
+	 * Add a cell to the current row
+	 * @param value
+	 * @return this
+	 */
+	public FixedWidthTable cell(final Object value){
+		row.append(value);
+
+		return pad();
+	}
+
+	/**
+	 * Add a cell with a count and its percentage of the total, ie
+	 * <code>12 (34.50%)</code>
+	 *
+	 * @param count
+	 * @param total
+	 * @return this
+	 */
+	public FixedWidthTable countPercent(final int count, final int total){
+		row.append(count).append(" (");
+		FixedPointFormat.appendPercent(row, count, total);
+		row.append("%)");
+
+		return pad();
+	}
+
+	/**
+	 * Write out the current row and start a new one
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	public void appendRow(final Appendable out) throws IOException{
+		out.append(row);
+		row.setLength(0);
+		column = 0;
+		columnEnd = 0;
+	}
+
+	/**
+	 * The current row so far
+	 */
+	@Override
+	public String toString() {
+		return row.toString();
+	}
+
+	/**
+	 * Pad the cell just written out to the end of its column and move to
+	 * the next column
+	 * @return this
+	 */
+	private FixedWidthTable pad(){
+		columnEnd += (column < leadingWidths.length) ? leadingWidths[column] : columnWidth;
+		column++;
+
+		// a wide value pushes the rest of the row over
+		columnEnd = Math.max(columnEnd, row.length());
+		while(row.length() < columnEnd){
+			row.append(' ');
+		}
+
+		return this;
+	}
+}
@@ -0,0 +1,210 @@
+package noorg.bookparsing.domain.report;
+
+import java.util.Arrays;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Counts by int, ie ratings or years, with a slot for each int between the
+ * smallest and largest counted. The slots grow as needed, so this suits keys
+ * that are close together. If the keys end up too far apart for a slot each,
+ * ie a year of 0 or 20015 among the 2020s, the counter switches to keeping only
+ * the counted keys, sorted, and finds their slots with a binary search.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class IntCounter extends Counter<Integer> {
+	private static final int INITIAL_SLOTS = 16;
+
+	/**
+	 * The most slots a counter will use for a slot per key, past that it only
+	 * keeps the counted keys
+	 */
+	private static final int MAX_SLOTS = 1 << 12;
+
+	private int first;
+	private int[] counts = new int[0];
+	// the key of each slot, sorted, once the keys are too far apart. null until then
+	private int[] keys;
+	private int keyCount;
+
+	/**
+	 * Add one to the count for the key
+	 * @param key
+	 */
+	public void increment(final int key){
+		add(key, 1);
+	}
+
+	/**
+	 * Add to the count for the key
+	 * @param key
+	 * @param count
+	 */
+	public void add(final int key, final int count){
+		// find the slot first, it may replace the array
+		final int slot = slotFor(key);
+		counts[slot] += count;
+	}
+
+	/**
+	 * Add the counts from another counter
+	 * @param other
+	 */
+	public void merge(final IntCounter other){
+		for(int slot=0;slot<other.getSlotCount();slot++){
+			final int count = other.counts[slot];
+			if(count != 0){
+				add(other.keyAt(slot), count);
+			}
+		}
+	}
+
+	@Override
+	protected int getSlotCount() {
+		return (keys == null) ? counts.length : keyCount;
+	}
+
+	@Override
+	protected Integer getKey(final int slot) {
+		return keyAt(slot);
+	}
+
+	@Override
+	protected int getCount(final int slot) {
+		return counts[slot];
+	}
+
+	@Override
+	protected int getSlot(final Object key) {
+		int slot = -1;
+
+		if(key instanceof Integer){
+			if(keys != null){
+				slot = Math.max(Arrays.binarySearch(keys, 0, keyCount, (Integer)key), -1);
+			}else{
+				final long offset = (long)(Integer)key - first;
+				if((offset >= 0) && (offset < counts.length)){
+					slot = (int)offset;
+				}
+			}
+		}
+
+		return slot;
+	}
+
+	/**
+	 * The key for a slot, without boxing it
+	 * @param slot
+	 * @return
+	 */
+	private int keyAt(final int slot){
+		return (keys == null) ? first + slot : keys[slot];
+	}
+
+	/**
+	 * The slot for the key, growing the slots to fit it
+	 * @param key
+	 * @return
+	 */
+	private int slotFor(final int key){
+		if(keys != null){
+			return sparseSlotFor(key);
+		}
+
+		if(counts.length == 0){
+			first = (int)Math.max((long)key - (INITIAL_SLOTS / 2), Integer.MIN_VALUE);
+			counts = new int[(int)Math.min(INITIAL_SLOTS, ((long)Integer.MAX_VALUE - first) + 1)];
+		}
+
+		final long offset = (long)key - first;
+		if((offset < 0) || (offset >= counts.length)){
+			final long low = Math.min(first, key);
+			final long high = Math.max(((long)first + counts.length) - 1, key);
+			if(((high - low) + 1) > MAX_SLOTS){
+				toSparse();
+				return sparseSlotFor(key);
+			}
+
+			// at least double, adding the new slots on the side of the key
+			final long size = Math.min(MAX_SLOTS, Math.max((high - low) + 1, counts.length * 2L));
+			final long newFirst = (offset < 0) ?
+					Math.max((high - size) + 1, Integer.MIN_VALUE) : first;
+			final long newLast = Math.min((newFirst + size) - 1, Integer.MAX_VALUE);
+
+			int[] grown = new int[(int)((newLast - newFirst) + 1)];
+			System.arraycopy(counts, 0, grown, (int)(first - newFirst), counts.length);
+			first = (int)newFirst;
+			counts = grown;
+		}
+
+		return key - first;
+	}
+
+	/**
+	 * Keep only the keys that have been counted, they're too far apart for a
+	 * slot each
+	 */
+	private void toSparse(){
+		int counted = 0;
+		for(int slot=0;slot<counts.length;slot++){
+			if(counts[slot] != 0){
+				counted++;
+			}
+		}
+
+		final int length = Math.max(INITIAL_SLOTS, counted * 2);
+		int[] sparseKeys = new int[length];
+		int[] sparseCounts = new int[length];
+		keyCount = 0;
+		for(int slot=0;slot<counts.length;slot++){
+			if(counts[slot] != 0){
+				sparseKeys[keyCount] = first + slot;
+				sparseCounts[keyCount] = counts[slot];
+				keyCount++;
+			}
+		}
+
+		keys = sparseKeys;
+		counts = sparseCounts;
+	}
+
+	/**
+	 * The slot for the key once the counter is sparse, adding it in order if
+	 * it hasn't been seen
+	 * @param key
+	 * @return
+	 */
+	private int sparseSlotFor(final int key){
+		int slot = Arrays.binarySearch(keys, 0, keyCount, key);
+
+		if(slot < 0){
+			slot = -(slot + 1);
+			if(keyCount == keys.length){
+				keys = Arrays.copyOf(keys, keyCount * 2);
+				counts = Arrays.copyOf(counts, keyCount * 2);
+			}
+
+			System.arraycopy(keys, slot, keys, slot + 1, keyCount - slot);
+			System.arraycopy(counts, slot, counts, slot + 1, keyCount - slot);
+			keys[slot] = key;
+			counts[slot] = 0;
+			keyCount++;
+		}
+
+		return slot;
+	}
+}
@@ -24,22 +24,9 @@ import java.util.List;
  */
 public class ReadingQuantityYearToYearReport extends AbstractYearToYearReport {
 	private static final int DATA_WIDTH  = 15;
-	private static final int NUM_COLUMNS  = 9;
-	private final String format;
-	
 
 	public ReadingQuantityYearToYearReport(final List<YearlyReport> reports) {
-		super(reports);
-		
-		StringBuilder formatBuilder = new StringBuilder();
-		formatBuilder.append("%-8s"); // year
-		for(int i=0;i<NUM_COLUMNS;i++){
-			formatBuilder.append("%-");
-			formatBuilder.append(DATA_WIDTH);
-			formatBuilder.append("s");
-		}
-		
-		format = formatBuilder.toString();
+		super(reports, new FixedWidthTable(DATA_WIDTH, YEAR_WIDTH));
 	}
 
 	@Override
@@ -48,26 +35,24 @@ public class ReadingQuantityYearToYearReport extends AbstractYearToYearReport {
 	}
 
 	@Override
-	protected String getReportHeaders() {
-		return String.format(format,
-				"Year", "Total Pages", "Total (no GN)", "Avg Pages",
-				"Avg (No GN)", "Max Pages", "Total Hours", "Avg Hours",
-				"Max Hours", "Num Rereads");
+	protected void addReportHeaders(final FixedWidthTable table) {
+		table.cell("Year").cell("Total Pages").cell("Total (no GN)").cell("Avg Pages")
+				.cell("Avg (No GN)").cell("Max Pages").cell("Total Hours").cell("Avg Hours")
+				.cell("Max Hours").cell("Num Rereads");
 	}
 
 	@Override
-	protected String getReportRow(YearlyReport yearlyReport) {		
-		return String.format(format,
-				yearlyReport.getYear(),
-				yearlyReport.getTotalPages(),
-				yearlyReport.getTotalPagesExcludingGraphicNovels(),
-				AbstractReport.getDoubleAsFixedDecimal(yearlyReport.getAveragePages()),
-				AbstractReport.getDoubleAsFixedDecimal(yearlyReport.getAveragePagesExcludingGraphicNovels()),
-				yearlyReport.getMaxPages(),
-				yearlyReport.getTotalHours(),
-				AbstractReport.getDoubleAsFixedDecimal(yearlyReport.getAveragesHours()),
-				yearlyReport.getMaxHours(),
-				yearlyReport.getRereadCount());		
+	protected void addReportRow(final FixedWidthTable table, final YearlyReport yearlyReport) {
+		table.cell(yearlyReport.getYear())
+				.cell(yearlyReport.getTotalPages())
+				.cell(yearlyReport.getTotalPagesExcludingGraphicNovels())
+				.cell(AbstractReport.getDoubleAsFixedDecimal(yearlyReport.getAveragePages()))
+				.cell(AbstractReport.getDoubleAsFixedDecimal(yearlyReport.getAveragePagesExcludingGraphicNovels()))
+				.cell(yearlyReport.getMaxPages())
+				.cell(yearlyReport.getTotalHours())
+				.cell(AbstractReport.getDoubleAsFixedDecimal(yearlyReport.getAveragesHours()))
+				.cell(yearlyReport.getMaxHours())
+				.cell(yearlyReport.getRereadCount());
 	}
 
 	@Override
@@ -1,5 +1,7 @@
 package noorg.bookparsing.domain.report;
 
+import java.io.IOException;
+
 import noorg.bookparsing.domain.Book;
 import noorg.bookparsing.report.format.BookFormatter;
 import noorg.bookparsing.report.format.impl.DefaultBookFormater;
@@ -49,4 +51,13 @@ public interface Report {
 	 * @return
 	 */
 	public String getReport(final BookFormatter formatter);
+	
+	/**
+	 * Write this report out using the given formatter, a piece at a time
+	 * 
+	 * @param out where to write the report
+	 * @param formatter
+	 * @throws IOException if the report can't be written
+	 */
+	public void appendReport(final Appendable out, final BookFormatter formatter) throws IOException;
 }
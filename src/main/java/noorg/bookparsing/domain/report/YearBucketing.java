@@ -0,0 +1,81 @@
+package noorg.bookparsing.domain.report;
+
+import java.util.Map;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Ways of grouping years into fixed width buckets, ie publication years into
+ * decades. A year goes in the bucket starting at the largest multiple of the
+ * width not after it, so 1999 is in the 1990 decade and -5 in the -10 decade.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public enum YearBucketing {
+	DECADE(10, "Decade"),
+	QUARTER_CENTURY(25, "Quarter Century"),
+	CENTURY(100, "Century");
+
+	private final int width;
+	private final String label;
+
+	private YearBucketing(final int width, final String label) {
+		this.width = width;
+		this.label = label;
+	}
+
+	/**
+	 * The number of years in a bucket
+	 * @return
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Name of a bucket for reports, ie Decade
+	 * @return
+	 */
+	public String getLabel() {
+		return label;
+	}
+
+	/**
+	 * The bucket a year goes in
+	 *
+	 * @param year
+	 * @return the first year of the bucket
+	 */
+	public int bucket(final int year){
+		return Math.floorDiv(year, width) * width;
+	}
+
+	/**
+	 * Group counts by year into buckets
+	 *
+	 * @param countsByYear
+	 * @return the counts by the first year of each bucket
+	 */
+	public IntCounter bucket(final Map<Integer, Integer> countsByYear){
+		IntCounter counter = new IntCounter();
+
+		for(Map.Entry<Integer, Integer> count: countsByYear.entrySet()){
+			counter.add(bucket(count.getKey()), count.getValue());
+		}
+
+		return counter;
+	}
+}
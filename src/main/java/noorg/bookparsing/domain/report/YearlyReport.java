@@ -1,9 +1,10 @@
 package noorg.bookparsing.domain.report;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.io.IOException;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collector;
 
 import noorg.bookparsing.domain.Book;
 import noorg.bookparsing.domain.Contributor;
@@ -48,19 +49,17 @@ import noorg.bookparsing.report.format.BookFormatter;
  *
  */
 public class YearlyReport extends AbstractReport{
-	private static final int STARTING_DECADE = 1800;
-	private static final int DECADE = 10;
-	
 	private int year;
-	private Set<Book> rereadBooks = new HashSet<>();
-	private Set<Book> backlogBooks = new HashSet<>();
-	private Map<BookFormat, Integer> countsByFormat = new HashMap<>();
-	private Map<BookFormat, Integer> backlogCountsByFormat = new HashMap<>();
-	private Map<BookGenre, Integer> countsByGenre = new HashMap<>();
-	private Map<ContributorGender, Integer> countsByAuthorGender = new HashMap<>();
-	private Map<Integer, Integer> countsByRating = new HashMap<>();
-	private Map<Integer, Integer> countsByYearPublished = new HashMap<>();
-	private Map<Integer, Integer> countsByDecadePublished = new HashMap<>();
+	private Set<Book> rereadBooks = new LinkedHashSet<>();
+	private Set<Book> backlogBooks = new LinkedHashSet<>();
+	private EnumCounter<BookFormat> countsByFormat = new EnumCounter<>(BookFormat.class);
+	private EnumCounter<BookFormat> backlogCountsByFormat = new EnumCounter<>(BookFormat.class);
+	private EnumCounter<BookGenre> countsByGenre = new EnumCounter<>(BookGenre.class);
+	private EnumCounter<ContributorGender> countsByAuthorGender = new EnumCounter<>(
+			ContributorGender.class);
+	private IntCounter countsByRating = new IntCounter();
+	private IntCounter countsByYearPublished = new IntCounter();
+	private IntCounter countsByDecadePublished = new IntCounter();
 	private int totalPages;
 	private int totalPagesGraphicNovels;
 	private int totalHours;
@@ -86,13 +85,73 @@ public class YearlyReport extends AbstractReport{
 		}
 	}
 	
+	/**
+	 * Combine the statistics from another report for the same year, ie one built
+	 * from a different part of the books. The other report should be for the
+	 * books after this one's, so its books are added after this one's and ties
+	 * for the longest and shortest book go to the earlier book, as they would
+	 * when adding them in order.
+	 * 
+	 * @param other
+	 * @return this report
+	 * @throws IllegalArgumentException if the other report is for a different year
+	 */
+	public YearlyReport merge(final YearlyReport other){
+		if(other.year != year){
+			throw new IllegalArgumentException("Cannot merge the report for " + other.year
+					+ " into " + year);
+		}
+		
+		books.addAll(other.books);
+		rereadBooks.addAll(other.rereadBooks);
+		backlogBooks.addAll(other.backlogBooks);
+		countsByFormat.merge(other.countsByFormat);
+		backlogCountsByFormat.merge(other.backlogCountsByFormat);
+		countsByGenre.merge(other.countsByGenre);
+		countsByAuthorGender.merge(other.countsByAuthorGender);
+		countsByRating.merge(other.countsByRating);
+		countsByYearPublished.merge(other.countsByYearPublished);
+		countsByDecadePublished.merge(other.countsByDecadePublished);
+		totalPages += other.totalPages;
+		totalPagesGraphicNovels += other.totalPagesGraphicNovels;
+		totalHours += other.totalHours;
+		totalRating += other.totalRating;
+		
+		if(isLonger(other.longestBook, longestBook)) {
+			longestBook = other.longestBook;
+		}
+		if(isShorter(other.shortestBook, shortestBook)) {
+			shortestBook = other.shortestBook;
+		}
+		if(isLonger(other.longestAudioBook, longestAudioBook)) {
+			longestAudioBook = other.longestAudioBook;
+		}
+		if(isShorter(other.shortestAudioBook, shortestAudioBook)) {
+			shortestAudioBook = other.shortestAudioBook;
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Collect the report for a year from a stream of books, which can be
+	 * parallel. Each thread builds part of the report and the parts are merged.
+	 * 
+	 * @param year
+	 * @return
+	 */
+	public static Collector<Book, ?, YearlyReport> collector(final int year){
+		return Collector.of(() -> new YearlyReport(year), YearlyReport::addBook,
+				YearlyReport::merge);
+	}
+	
 	/**
 	 * Add details to the year's statistics
 	 */
 	@Override
 	protected void processAddedBook(Book book) {
 		final BookFormat format = book.getFormat();
-		incrementMapValue(countsByFormat, format);
+		incrementCount(countsByFormat, format);
 		
 		final Integer pageCount = book.getNumberOfPages();
 		if(pageCount != null){
@@ -154,10 +213,10 @@ public class YearlyReport extends AbstractReport{
 		}
 		
 		
-		incrementMapValue(countsByGenre, book.getGenre());
+		incrementCount(countsByGenre, book.getGenre());
 		
 		final Integer rating = book.getMyRating();
-		incrementMapValue(countsByRating, rating);
+		incrementCount(countsByRating, rating);
 		
 		// Generate counts by publish year/decade
 		Integer yearPublished = book.getOriginalPublicationYear();
@@ -173,24 +232,15 @@ public class YearlyReport extends AbstractReport{
 		}else if(yearPublished >year){
 			logger.warn("{} was published after report year", book);
 		}
-		incrementMapValue(countsByYearPublished, yearPublished);
+		incrementCount(countsByYearPublished, yearPublished);
 		
-		int decadePublished = STARTING_DECADE;
-		for(;decadePublished<year;decadePublished+=DECADE){
-			if(yearPublished >= decadePublished){
-				if(yearPublished < (decadePublished + DECADE)){
-					logger.debug("Binning {} in {}", yearPublished, decadePublished);
-					break;
-				}
-			}
-		}
-		incrementMapValue(countsByDecadePublished, decadePublished);
+		countsByDecadePublished.increment(YearBucketing.DECADE.bucket(yearPublished));
 		
 		final Contributor author = book.getAuthor();
 		if(author != null){
 			final ContributorGender gender = author.getGender();
 			if(gender != null) {
-				incrementMapValue(countsByAuthorGender, author.getGender());
+				incrementCount(countsByAuthorGender, author.getGender());
 			}
 		}
 		
@@ -203,7 +253,7 @@ public class YearlyReport extends AbstractReport{
 			 * is the report for the first time it was read
 			 */
 			backlogBooks.add(book);
-			incrementMapValue(backlogCountsByFormat, book.getFormat());
+			incrementCount(backlogCountsByFormat, book.getFormat());
 		}
 
 		/* Check the first year read and compare it to the report year
@@ -219,11 +269,8 @@ public class YearlyReport extends AbstractReport{
 		boolean addBook = false;
 		
 		// only add the book if it matches the report year
-		Set<Integer> yearsRead = book.getYearsRead();
-		if(yearsRead != null){
-			if(yearsRead.contains(getYear())){
-				addBook = true;
-			}
+		if(book.getYearsRead().contains(getYear())){
+			addBook = true;
 		}
 		
 		return addBook;
@@ -259,7 +306,7 @@ public class YearlyReport extends AbstractReport{
 	 * @return
 	 */
 	public Map<BookFormat, Integer> getCountsByFormat() {
-		return countsByFormat;
+		return countsByFormat.asMap();
 	}
 
 	/**
@@ -267,7 +314,7 @@ public class YearlyReport extends AbstractReport{
 	 * @return
 	 */
 	public Map<BookGenre, Integer> getCountsByGenre() {
-		return countsByGenre;
+		return countsByGenre.asMap();
 	}
 
 	/**
@@ -277,7 +324,7 @@ public class YearlyReport extends AbstractReport{
 	 * @return
 	 */
 	public Map<ContributorGender, Integer> getCountsByAuthorGender() {
-		return countsByAuthorGender;
+		return countsByAuthorGender.asMap();
 	}
 
 	/**
@@ -285,7 +332,7 @@ public class YearlyReport extends AbstractReport{
 	 * @return
 	 */
 	public Map<Integer, Integer> getCountsByRating() {
-		return countsByRating;
+		return countsByRating.asMap();
 	}
 
 	/**
@@ -293,7 +340,7 @@ public class YearlyReport extends AbstractReport{
 	 * @return
 	 */
 	public Map<Integer, Integer> getCountsByYearPublished() {
-		return countsByYearPublished;
+		return countsByYearPublished.asMap();
 	}
 
 	/**
@@ -301,7 +348,26 @@ public class YearlyReport extends AbstractReport{
 	 * @return
 	 */
 	public Map<Integer, Integer> getCountsByDecadePublished() {
-		return countsByDecadePublished;
+		return countsByDecadePublished.asMap();
+	}
+
+	/**
+	 * A map of counts of the books by when they were published, grouped into
+	 * buckets of years
+	 * 
+	 * @param bucketing
+	 * @return counts by the first year of each bucket
+	 */
+	public Map<Integer, Integer> getCountsByPublished(final YearBucketing bucketing) {
+		Map<Integer, Integer> counts;
+		
+		if(YearBucketing.DECADE.equals(bucketing)){
+			counts = getCountsByDecadePublished();
+		}else{
+			counts = bucketing.bucket(getCountsByYearPublished()).asMap();
+		}
+		
+		return counts;
 	}
 
 	/**
@@ -377,7 +443,7 @@ public class YearlyReport extends AbstractReport{
 	 * @return
 	 */
 	public int getTotalAudioBooks(){
-		return getMapCount(countsByFormat, BookFormat.AUDIO_BOOK);
+		return countsByFormat.get(BookFormat.AUDIO_BOOK);
 	}
 	
 	/**
@@ -386,7 +452,7 @@ public class YearlyReport extends AbstractReport{
 	 * @return
 	 */
 	public int getTotalBacklogAudioBooks() {
-		return getMapCount(backlogCountsByFormat, BookFormat.AUDIO_BOOK);
+		return backlogCountsByFormat.get(BookFormat.AUDIO_BOOK);
 	}
 	
 	/**
@@ -394,7 +460,7 @@ public class YearlyReport extends AbstractReport{
 	 * @return
 	 */
 	public int getTotalGraphicNovels(){
-		return getMapCount(countsByFormat, BookFormat.GRAPHIC_NOVEL);
+		return countsByFormat.get(BookFormat.GRAPHIC_NOVEL);
 	}
 	
 	/**
@@ -554,70 +620,72 @@ public class YearlyReport extends AbstractReport{
 	}
 
 	@Override
-	public String getReport(final BookFormatter formatter) {
-		StringBuilder sb = new StringBuilder();
-		
-		sb.append("Year: ").append(year).append("\n");
-		sb.append("Total Books: ").append(getTotal()).append("\n");
-		sb.append("Total Backlog Books: ").append(getTotalBacklogRead());
-		sb.append(" (").append(getPercentAsString(getTotalBacklogRead())).append("%)").append("\n");
-		sb.append("Rereads: ").append(getRereadCount());
-		sb.append(" (").append(getPercentAsString(getRereadCount())).append("%)").append("\n\n");
-		
-		sb.append("********************\n* Format Breakdown *\n********************\n");
-		sb.append(getCounts(countsByFormat)).append("\n");
-		
-		sb.append("*******************\n* Genre Breakdown *\n*******************\n");
-		sb.append(getCounts(countsByGenre)).append("\n");
-		
-		sb.append("***************************\n* Author Gender Breakdown *\n***************************\n");
-		sb.append(getCounts(countsByAuthorGender)).append("\n");
-		
-		sb.append("***********\n* Ratings *\n***********\n");
-		sb.append("Average Rating: ");
-		sb.append(getDoubleAsFixedDecimal(getAverageRating())).append("\n");
-		sb.append(getCounts(countsByRating)).append("\n");
-		
-		sb.append("Years Published:\n");
-		sb.append(getCounts(countsByYearPublished)).append("\n");
-		
-		sb.append("Decade Published:\n");
-		sb.append(getCounts(countsByDecadePublished)).append("\n");
-		
-		sb.append("Number of Books: ").append(getTotalBooksRead()).append("\n");
-		sb.append("Total Pages: ").append(getTotalPages()).append("\n");
-		sb.append("Total From Backlog: ").append(getTotalBacklogBooksRead()).append("\n");
-		sb.append("Longest Book: ").append(printBookLength(longestBook, false)).append("\n");
-		sb.append("Shortest Book: ").append(printBookLength(shortestBook, false)).append("\n");
-		sb.append("Average Pages: ");
-		sb.append(getDoubleAsFixedDecimal(getAveragePages())).append("\n\n");
-		
-		sb.append("Number of Books (Excluding Graphic Novels): ").append(getTotalBooksReadExcludingGraphicNovels()).append("\n");
-		sb.append("Total Pages (Excluding Graphic Novels): ").append(getTotalPagesExcludingGraphicNovels()).append("\n");
-		sb.append("Average Pages (Excluding Graphic Novels): ");
-		sb.append(getDoubleAsFixedDecimal(getAveragePagesExcludingGraphicNovels())).append("\n\n");
-		
-		sb.append("Number of Audiobooks: ").append(getTotalAudioBooks()).append("\n");
-		sb.append("Total Audio Hours: ").append(getTotalHours()).append("\n");
-		sb.append("Total From Backlog: ").append(getTotalBacklogAudioBooks()).append("\n");
-		sb.append("Longest Book: ").append(printBookLength(longestAudioBook, true)).append("\n");
-		sb.append("Shortest Book: ").append(printBookLength(shortestAudioBook, true)).append("\n");
-		sb.append("Average Hours: ");
-		sb.append(getDoubleAsFixedDecimal(getAveragesHours())).append("\n\n");
-		
-		sb.append("*******************\n");
-		sb.append("All Books:").append("\n");
-		sb.append(formatBookList(books, formatter));
-		
-		sb.append("*******************\n");
-		sb.append("Reread Books:").append("\n");
-		sb.append(formatBookList(rereadBooks, formatter));
-		
-		sb.append("*******************\n");
-		sb.append("Backlog Books:").append("\n");
-		sb.append(formatBookList(backlogBooks, formatter));
-		
-		return sb.toString();
+	public void appendReport(final Appendable out, final BookFormatter formatter) throws IOException {
+		out.append("Year: ").append(String.valueOf(year)).append("\n");
+		out.append("Total Books: ").append(String.valueOf(getTotal())).append("\n");
+		out.append("Total Backlog Books: ").append(String.valueOf(getTotalBacklogRead()));
+		out.append(" (").append(getPercentAsString(getTotalBacklogRead())).append("%)").append("\n");
+		out.append("Rereads: ").append(String.valueOf(getRereadCount()));
+		out.append(" (").append(getPercentAsString(getRereadCount())).append("%)").append("\n\n");
+		
+		out.append("********************\n* Format Breakdown *\n********************\n");
+		appendCounts(out, countsByFormat.asMap());
+		out.append("\n");
+		
+		out.append("*******************\n* Genre Breakdown *\n*******************\n");
+		appendCounts(out, countsByGenre.asMap());
+		out.append("\n");
+		
+		out.append("***************************\n* Author Gender Breakdown *\n***************************\n");
+		appendCounts(out, countsByAuthorGender.asMap());
+		out.append("\n");
+		
+		out.append("***********\n* Ratings *\n***********\n");
+		out.append("Average Rating: ");
+		out.append(getDoubleAsFixedDecimal(getAverageRating())).append("\n");
+		appendCounts(out, countsByRating.asMap());
+		out.append("\n");
+		
+		out.append("Years Published:\n");
+		appendCounts(out, countsByYearPublished.asMap());
+		out.append("\n");
+		
+		out.append("Decade Published:\n");
+		appendCounts(out, countsByDecadePublished.asMap());
+		out.append("\n");
+		
+		out.append("Number of Books: ").append(String.valueOf(getTotalBooksRead())).append("\n");
+		out.append("Total Pages: ").append(String.valueOf(getTotalPages())).append("\n");
+		out.append("Total From Backlog: ").append(String.valueOf(getTotalBacklogBooksRead())).append("\n");
+		out.append("Longest Book: ").append(printBookLength(longestBook, false)).append("\n");
+		out.append("Shortest Book: ").append(printBookLength(shortestBook, false)).append("\n");
+		out.append("Average Pages: ");
+		out.append(getDoubleAsFixedDecimal(getAveragePages())).append("\n\n");
+		
+		out.append("Number of Books (Excluding Graphic Novels): ").append(String.valueOf(getTotalBooksReadExcludingGraphicNovels())).append("\n");
+		out.append("Total Pages (Excluding Graphic Novels): ").append(String.valueOf(getTotalPagesExcludingGraphicNovels())).append("\n");
+		out.append("Average Pages (Excluding Graphic Novels): ");
+		out.append(getDoubleAsFixedDecimal(getAveragePagesExcludingGraphicNovels())).append("\n\n");
+		
+		out.append("Number of Audiobooks: ").append(String.valueOf(getTotalAudioBooks())).append("\n");
+		out.append("Total Audio Hours: ").append(String.valueOf(getTotalHours())).append("\n");
+		out.append("Total From Backlog: ").append(String.valueOf(getTotalBacklogAudioBooks())).append("\n");
+		out.append("Longest Book: ").append(printBookLength(longestAudioBook, true)).append("\n");
+		out.append("Shortest Book: ").append(printBookLength(shortestAudioBook, true)).append("\n");
+		out.append("Average Hours: ");
+		out.append(getDoubleAsFixedDecimal(getAveragesHours())).append("\n\n");
+		
+		out.append("*******************\n");
+		out.append("All Books:").append("\n");
+		appendBookList(out, books, formatter);
+		
+		out.append("*******************\n");
+		out.append("Reread Books:").append("\n");
+		appendBookList(out, rereadBooks, formatter);
+		
+		out.append("*******************\n");
+		out.append("Backlog Books:").append("\n");
+		appendBookList(out, backlogBooks, formatter);
 	}
 
 }
@@ -0,0 +1,134 @@
+package noorg.bookparsing.domain.report;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collector;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.YearSet;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Builds a {@link YearlyReport} for each of several years in one pass over
+ * the books. Each book only goes to the reports for the years it was read,
+ * rather than every report looking at every book.
+ *
+ * <p>An accumulator isn't thread safe, but accumulators for different parts
+ * of the books can be merged, see {@link #collector(Collection)}.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class YearlyReportAccumulator {
+	private final int firstYear;
+	private final YearlyReport[] reportsByYear;
+	private final List<YearlyReport> reports = new ArrayList<>();
+
+	/**
+	 * @param years the years to report on
+	 * @throws IllegalArgumentException if there are no years
+	 */
+	public YearlyReportAccumulator(final Collection<Integer> years) {
+		super();
+		if(years.isEmpty()){
+			throw new IllegalArgumentException("No report years");
+		}
+
+		final SortedSet<Integer> sorted = new TreeSet<>(years);
+		firstYear = sorted.first();
+		reportsByYear = new YearlyReport[(sorted.last() - firstYear) + 1];
+		for(Integer year: sorted){
+			final YearlyReport report = new YearlyReport(year);
+			reportsByYear[year - firstYear] = report;
+			reports.add(report);
+		}
+	}
+
+	/**
+	 * Add the book to the reports for the years it was read
+	 * @param book
+	 */
+	public void addBook(final Book book){
+		if(book != null){
+			final YearSet yearsRead = book.getYearsRead();
+			for(int i=0;i<yearsRead.size();i++){
+				final long index = (long)yearsRead.get(i) - firstYear;
+				if((index >= 0) && (index < reportsByYear.length)
+						&& (reportsByYear[(int)index] != null)){
+					reportsByYear[(int)index].addBook(book);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Add all the books
+	 * @param books
+	 * @return this
+	 */
+	public YearlyReportAccumulator addBooks(final Collection<Book> books){
+		for(Book book: books){
+			addBook(book);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Combine the reports from another accumulator for the same years, ie one
+	 * that was given the books after this one's
+	 *
+	 * @param other
+	 * @return this
+	 * @throws IllegalArgumentException if the other accumulator has different years
+	 */
+	public YearlyReportAccumulator merge(final YearlyReportAccumulator other){
+		if(other.reports.size() != reports.size()){
+			throw new IllegalArgumentException("Cannot merge reports for different years");
+		}
+
+		for(int i=0;i<reports.size();i++){
+			reports.get(i).merge(other.reports.get(i));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Collect the reports for the years from a stream of books, which can be
+	 * parallel. Each thread builds its own reports and they are merged.
+	 *
+	 * @param years
+	 * @return the reports in year order
+	 */
+	public static Collector<Book, ?, List<YearlyReport>> collector(
+			final Collection<Integer> years){
+		return Collector.of(() -> new YearlyReportAccumulator(years),
+				YearlyReportAccumulator::addBook, YearlyReportAccumulator::merge,
+				YearlyReportAccumulator::getReports);
+	}
+
+	/**
+	 * The reports in year order
+	 * @return
+	 */
+	public List<YearlyReport> getReports() {
+		return reports;
+	}
+}
@@ -41,4 +41,19 @@ public abstract class AbstractBookEnricher implements BookEnricher {
 	 * @param book
 	 */
 	protected abstract void enrichBook(final Book book);
+	
+	/**
+	 * Describes how the enricher is set up, ie the shelf names or rules it
+	 * looks for. Two enrichers with the same configuration set the same fields
+	 * on the same book.
+	 * @return
+	 */
+	public String getConfiguration() {
+		return toString();
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
 }
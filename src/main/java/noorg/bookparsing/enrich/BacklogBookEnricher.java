@@ -1,9 +1,11 @@
 package noorg.bookparsing.enrich;
 
-import java.util.List;
 
+import java.util.EnumSet;
+import java.util.Set;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 
 /**
  * <p>Copyright 2019 Robert J. Zak
@@ -45,18 +47,29 @@ public class BacklogBookEnricher extends AbstractBookEnricher {
 		this.backlogShelfName = backlogShelfName;
 	}
 
+	@Override
+	public boolean isIndependent() {
+		return true;
+	}
+
+	@Override
+	public Set<BookField> getReads() {
+		return EnumSet.of(BookField.BOOKSHELVES);
+	}
+
+	@Override
+	public Set<BookField> getWrites() {
+		return EnumSet.of(BookField.FROM_BACKLOG);
+	}
+
 	@Override
 	protected void enrichBook(final Book book) {
-			
-		final List<String> shelves = book.getBookshelves();
-		
-		boolean fromBacklog = false;
-		
-		if(shelves != null){
-			fromBacklog = shelves.contains(backlogShelfName);
-		}
-		
-		book.setFromBacklog(fromBacklog);
+		book.setFromBacklog(book.hasShelf(backlogShelfName));
+	}
+
+	@Override
+	public String getConfiguration() {
+		return super.getConfiguration() + " backlog=" + backlogShelfName;
 	}
 
 }
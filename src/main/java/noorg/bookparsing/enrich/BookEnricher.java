@@ -3,9 +3,12 @@
  */
 package noorg.bookparsing.enrich;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 
 /**
  * <p>Copyright 2014 Robert J. Zak
@@ -38,4 +41,37 @@ public interface BookEnricher {
 	 * @param books
 	 */
 	public void enrichBooks(final List<Book> books);
+	
+	/**
+	 * Does enriching a book only read and write that book. If so the books can
+	 * be enriched in any order, and at the same time on several threads.
+	 * 
+	 * <p>Enrichers that change shared objects, ie a {@link noorg.bookparsing.domain.Contributor}
+	 * shared by several books, or that look at more than one book are not.
+	 * 
+	 * @return
+	 */
+	public default boolean isIndependent(){
+		return false;
+	}
+	
+	/**
+	 * The fields of the book this enricher uses. By default it is assumed to
+	 * use all of them.
+	 * 
+	 * @return
+	 */
+	public default Set<BookField> getReads(){
+		return EnumSet.allOf(BookField.class);
+	}
+	
+	/**
+	 * The fields of the book this enricher sets. By default it is assumed to
+	 * set all of them.
+	 * 
+	 * @return
+	 */
+	public default Set<BookField> getWrites(){
+		return EnumSet.allOf(BookField.class);
+	}
 }
@@ -1,11 +1,13 @@
 package noorg.bookparsing.enrich;
 
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 import noorg.bookparsing.domain.Contributor;
 import noorg.bookparsing.domain.types.ContributorGender;
 
@@ -37,23 +39,50 @@ import noorg.bookparsing.domain.types.ContributorGender;
 public class ContributorGenderEnricher extends AbstractBookEnricher {
 	private static final Logger logger = LoggerFactory.getLogger(ContributorGenderEnricher.class);
 
-	private static final String AUTHOR_FEMALE = "author-female";
-	private static final String AUTHOR_MALE = "author-male";
-	private static final String AUTHOR_NON_BINARY = "author-non_binary";
+	/**
+	 * The gender is set on the {@link Contributor} rather than the book, but
+	 * the parser gives every book its own contributors, so only that book is
+	 * changed.
+	 */
+	@Override
+	public boolean isIndependent() {
+		return true;
+	}
+
+	@Override
+	public Set<BookField> getReads() {
+		return EnumSet.of(BookField.AUTHOR, BookField.BOOKSHELVES, BookField.READ_COUNT);
+	}
+
+	@Override
+	public Set<BookField> getWrites() {
+		return EnumSet.of(BookField.AUTHOR_GENDER);
+	}
 	
 	@Override
 	protected void enrichBook(final Book book) {
-			
-		final List<String> shelves = book.getBookshelves();
 		
-
 		boolean authorFemale = false;
 		boolean authorMale = false;
 		boolean authorNonBinary = false;
-		if(shelves != null){
-			authorFemale = shelves.contains(AUTHOR_FEMALE);
-			authorMale = shelves.contains(AUTHOR_MALE);
-			authorNonBinary = shelves.contains(AUTHOR_NON_BINARY);
+		for(int id = book.nextShelfId(0); id >= 0; id = book.nextShelfId(id + 1)){
+			final ContributorGender gender = ShelfClassifier.classify(
+					book.getShelfName(id)).getAuthorGender();
+			if(gender != null){
+				switch(gender){
+				case FEMALE:
+					authorFemale = true;
+					break;
+				case MALE:
+					authorMale = true;
+					break;
+				case NON_BINARY:
+					authorNonBinary = true;
+					break;
+				default:
+					break;
+				}
+			}
 		}
 		
 		// Ensure only 1 gender was found
@@ -72,4 +101,9 @@ public class ContributorGenderEnricher extends AbstractBookEnricher {
 		}
 	}
 
+	@Override
+	public String getConfiguration() {
+		return super.getConfiguration() + " " + ShelfClassifier.getConfiguration();
+	}
+
 }
@@ -0,0 +1,159 @@
+package noorg.bookparsing.enrich;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
+import noorg.bookparsing.service.ParsingService;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Runs several enrichers in a single pass. Each book is visited once and
+ * given to every enricher in turn, rather than each enricher walking the whole
+ * list on its own. The enrichers run in the order given, so later ones can use
+ * what earlier ones set.
+ *
+ * <p>The pipeline can also be attached to a {@link ParsingService} so books
+ * are enriched as soon as they're parsed.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class EnrichmentPipeline extends AbstractBookEnricher {
+	private final List<AbstractBookEnricher> enrichers;
+
+	/**
+	 * @param enrichers the enrichers to run, in order
+	 */
+	public EnrichmentPipeline(final AbstractBookEnricher... enrichers) {
+		this(Arrays.asList(enrichers));
+	}
+
+	/**
+	 * @param enrichers the enrichers to run, in order
+	 */
+	public EnrichmentPipeline(final List<AbstractBookEnricher> enrichers) {
+		super();
+		this.enrichers = Collections.unmodifiableList(new ArrayList<>(enrichers));
+	}
+
+	/**
+	 * The enrichers run by this pipeline, in order
+	 * @return
+	 */
+	public List<AbstractBookEnricher> getEnrichers() {
+		return enrichers;
+	}
+
+	/**
+	 * Independent only if every enricher in the pipeline is
+	 */
+	@Override
+	public boolean isIndependent() {
+		boolean independent = true;
+
+		for(AbstractBookEnricher enricher: enrichers){
+			independent &= enricher.isIndependent();
+		}
+
+		return independent;
+	}
+
+	@Override
+	public Set<BookField> getReads() {
+		Set<BookField> reads = EnumSet.noneOf(BookField.class);
+
+		for(AbstractBookEnricher enricher: enrichers){
+			reads.addAll(enricher.getReads());
+		}
+
+		return reads;
+	}
+
+	@Override
+	public Set<BookField> getWrites() {
+		Set<BookField> writes = EnumSet.noneOf(BookField.class);
+
+		for(AbstractBookEnricher enricher: enrichers){
+			writes.addAll(enricher.getWrites());
+		}
+
+		return writes;
+	}
+
+	@Override
+	protected void enrichBook(final Book book) {
+		if(book != null){
+			for(AbstractBookEnricher enricher: enrichers){
+				enricher.enrichBook(book);
+			}
+		}
+	}
+
+	@Override
+	public String getConfiguration() {
+		StringBuilder sb = new StringBuilder(toString());
+
+		for(AbstractBookEnricher enricher: enrichers){
+			sb.append(System.lineSeparator()).append(enricher.getConfiguration());
+		}
+
+		return sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		return "EnrichmentPipeline " + enrichers;
+	}
+
+	/**
+	 * Wrap a parser so every book it returns has already been enriched. Each
+	 * record is enriched right after it is parsed, on the same thread.
+	 *
+	 * <p>The wrapped parser can itself be run by a
+	 * {@link noorg.bookparsing.service.impl.ParallelParsingService} as long as the
+	 * pipeline {@link #isIndependent()}.
+	 *
+	 * @param parser
+	 * @return
+	 */
+	public <INPUT, OUTPUT extends Book> ParsingService<INPUT, OUTPUT> attachTo(
+			final ParsingService<INPUT, OUTPUT> parser){
+		return new ParsingService<INPUT, OUTPUT>() {
+			@Override
+			public OUTPUT parse(final INPUT input) {
+				final OUTPUT book = parser.parse(input);
+				enrichBook(book);
+
+				return book;
+			}
+
+			@Override
+			public Stream<OUTPUT> parseStream(final Stream<INPUT> inputs) {
+				return parser.parseStream(inputs).map(book -> {
+					enrichBook(book);
+					return book;
+				});
+			}
+		};
+	}
+}
@@ -0,0 +1,132 @@
+package noorg.bookparsing.enrich;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.service.ParsingService;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>The plan made by an {@link EnrichmentScheduler}. The enrichers are run in
+ * waves, each wave only depends on the waves before it, and the stages within
+ * a wave run at the same time.
+ *
+ * <p>The first wave can start with a fused pass of independent enrichers that
+ * only need parsed fields. That pass can be attached to the parser with
+ * {@link #attachTo(ParsingService)}, in which case it is left out when the rest
+ * of the schedule runs.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class EnrichmentSchedule implements BookEnricher {
+	private final List<List<AbstractBookEnricher>> waves;
+	private final EnrichmentPipeline parseStage;
+	private final ForkJoinPool pool;
+	private final int grainSize;
+	private volatile boolean attached;
+
+	EnrichmentSchedule(final List<List<AbstractBookEnricher>> waves,
+			final EnrichmentPipeline parseStage, final ForkJoinPool pool,
+			final int grainSize) {
+		super();
+		List<List<AbstractBookEnricher>> copy = new ArrayList<>();
+		for(List<AbstractBookEnricher> wave: waves){
+			copy.add(Collections.unmodifiableList(new ArrayList<>(wave)));
+		}
+		this.waves = Collections.unmodifiableList(copy);
+		this.parseStage = parseStage;
+		this.pool = pool;
+		this.grainSize = grainSize;
+	}
+
+	/**
+	 * The stages of each wave, in the order the waves run
+	 * @return
+	 */
+	public List<List<AbstractBookEnricher>> getWaves() {
+		return waves;
+	}
+
+	/**
+	 * Run the fused first pass as each book is parsed. Does nothing if there is
+	 * no such pass.
+	 *
+	 * @param parser
+	 * @return the parser to use
+	 */
+	public <INPUT, OUTPUT extends Book> ParsingService<INPUT, OUTPUT> attachTo(
+			final ParsingService<INPUT, OUTPUT> parser){
+		ParsingService<INPUT, OUTPUT> attachedParser = parser;
+
+		if(parseStage != null){
+			attached = true;
+			attachedParser = parseStage.attachTo(parser);
+		}
+
+		return attachedParser;
+	}
+
+	/**
+	 * Run the schedule over the books
+	 */
+	@Override
+	public void enrichBooks(final List<Book> books) {
+		if(books != null){
+			for(List<AbstractBookEnricher> wave: waves){
+				List<AbstractBookEnricher> stages = new ArrayList<>(wave);
+				if(attached){
+					stages.remove(parseStage);
+				}
+
+				if(stages.size() == 1){
+					run(stages.get(0), books);
+				}else if(!stages.isEmpty()){
+					List<ForkJoinTask<?>> tasks = new ArrayList<>();
+					for(AbstractBookEnricher stage: stages){
+						tasks.add(pool.submit(() -> run(stage, books)));
+					}
+
+					for(ForkJoinTask<?> task: tasks){
+						task.join();
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "EnrichmentSchedule " + waves;
+	}
+
+	/**
+	 * Run one stage, in parallel if it's independent
+	 * @param stage
+	 * @param books
+	 */
+	private void run(final AbstractBookEnricher stage, final List<Book> books){
+		if(stage.isIndependent()){
+			new ParallelBookEnricher(stage, pool, grainSize).enrichBooks(books);
+		}else{
+			stage.enrichBooks(books);
+		}
+	}
+}
@@ -0,0 +1,300 @@
+package noorg.bookparsing.enrich;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.BookField;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Works out when to run each enricher from the {@link BookField}s they read
+ * and write, rather than relying on the order they were listed in.
+ *
+ * <ul>
+ * <li>An enricher that writes a field runs before any enricher that reads it.
+ * If two enrichers read each other's output, or write the same field, they
+ * run in the order they were given.</li>
+ * <li>Enrichers whose output isn't needed by the reports, or by another
+ * enricher that is needed, are skipped.</li>
+ * <li>Independent enrichers that only depend on each other are fused into a
+ * single pass over the books, which can also be attached to the parser.</li>
+ * <li>Enrichers that don't depend on each other run at the same time.</li>
+ * </ul>
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class EnrichmentScheduler implements AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(
+			EnrichmentScheduler.class);
+
+	private final List<AbstractBookEnricher> enrichers;
+	private final ForkJoinPool pool;
+	private final int grainSize;
+	private final boolean ownsPool;
+
+	/**
+	 * Schedule the enrichers using one thread per available processor
+	 * @param enrichers
+	 */
+	public EnrichmentScheduler(final List<AbstractBookEnricher> enrichers) {
+		this(enrichers, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Schedule the enrichers on a new pool with the given parallelism. The pool
+	 * is shut down when this scheduler is closed.
+	 *
+	 * @param enrichers
+	 * @param parallelism
+	 */
+	public EnrichmentScheduler(final List<AbstractBookEnricher> enrichers,
+			final int parallelism) {
+		this(enrichers, new ForkJoinPool(parallelism),
+				ParallelBookEnricher.DEFAULT_GRAIN_SIZE, true);
+	}
+
+	/**
+	 * Schedule the enrichers on an existing pool. The pool is left running when
+	 * this scheduler is closed.
+	 *
+	 * @param enrichers
+	 * @param pool
+	 * @param grainSize the number of books enriched by a single task
+	 */
+	public EnrichmentScheduler(final List<AbstractBookEnricher> enrichers,
+			final ForkJoinPool pool, final int grainSize) {
+		this(enrichers, pool, grainSize, false);
+	}
+
+	private EnrichmentScheduler(final List<AbstractBookEnricher> enrichers,
+			final ForkJoinPool pool, final int grainSize, final boolean ownsPool) {
+		super();
+		this.enrichers = Collections.unmodifiableList(new ArrayList<>(enrichers));
+		this.pool = pool;
+		this.grainSize = grainSize;
+		this.ownsPool = ownsPool;
+	}
+
+	/**
+	 * Plan the enrichment needed to fill in the given fields
+	 *
+	 * @param required the fields used by the reports, ie
+	 * {@link noorg.bookparsing.report.ReportService#getRequiredFields()}
+	 * @return
+	 * @throws IllegalStateException if the enrichers depend on each other in a cycle
+	 */
+	public EnrichmentSchedule schedule(final Set<BookField> required){
+		final int count = enrichers.size();
+
+		// before[i][j] is true if enricher i has to run before enricher j
+		boolean[][] before = new boolean[count][count];
+		for(int i=0;i<count;i++){
+			for(int j=i+1;j<count;j++){
+				final AbstractBookEnricher first = enrichers.get(i);
+				final AbstractBookEnricher second = enrichers.get(j);
+				final boolean firstFeedsSecond = overlaps(first.getWrites(), second.getReads());
+				final boolean secondFeedsFirst = overlaps(second.getWrites(), first.getReads());
+
+				if(firstFeedsSecond && secondFeedsFirst){
+					logger.debug("{} and {} use each other's fields, keeping their order",
+							first, second);
+					before[i][j] = true;
+				}else if(firstFeedsSecond){
+					before[i][j] = true;
+				}else if(secondFeedsFirst){
+					before[j][i] = true;
+				}else if(overlaps(first.getWrites(), second.getWrites())){
+					before[i][j] = true;
+				}
+			}
+		}
+
+		final List<Integer> order = sort(before);
+		final boolean[] needed = prune(order, before, required);
+
+		// independent enrichers that only follow each other make one pass
+		final boolean[] fused = new boolean[count];
+		final List<AbstractBookEnricher> parseStage = new ArrayList<>();
+		for(int i: order){
+			if(needed[i] && enrichers.get(i).isIndependent()){
+				boolean onlyFused = true;
+				for(int p=0;p<count;p++){
+					onlyFused &= !(before[p][i] && needed[p]) || fused[p];
+				}
+
+				if(onlyFused){
+					fused[i] = true;
+					parseStage.add(enrichers.get(i));
+				}
+			}
+		}
+
+		// everything else goes in waves after whatever it depends on
+		final int[] levels = new int[count];
+		List<List<AbstractBookEnricher>> waveEnrichers = new ArrayList<>();
+		for(int i: order){
+			if(needed[i] && !fused[i]){
+				int level = 0;
+				for(int p=0;p<count;p++){
+					if(before[p][i] && needed[p]){
+						level = Math.max(level, fused[p] ? 1 : levels[p] + 1);
+					}
+				}
+				levels[i] = level;
+
+				while(waveEnrichers.size() <= level){
+					waveEnrichers.add(new ArrayList<>());
+				}
+				waveEnrichers.get(level).add(enrichers.get(i));
+			}
+		}
+
+		EnrichmentPipeline fusedStage = null;
+		if(!parseStage.isEmpty()){
+			fusedStage = new EnrichmentPipeline(parseStage);
+			if(waveEnrichers.isEmpty()){
+				waveEnrichers.add(new ArrayList<>());
+			}
+		}
+
+		List<List<AbstractBookEnricher>> waves = new ArrayList<>();
+		for(int level=0;level<waveEnrichers.size();level++){
+			List<AbstractBookEnricher> wave = new ArrayList<>();
+			if((level == 0) && (fusedStage != null)){
+				wave.add(fusedStage);
+			}
+
+			// fuse the independent enrichers in the wave into one pass as well
+			List<AbstractBookEnricher> independent = new ArrayList<>();
+			for(AbstractBookEnricher enricher: waveEnrichers.get(level)){
+				if(enricher.isIndependent()){
+					independent.add(enricher);
+				}else{
+					wave.add(enricher);
+				}
+			}
+			if(independent.size() == 1){
+				wave.add(independent.get(0));
+			}else if(!independent.isEmpty()){
+				wave.add(new EnrichmentPipeline(independent));
+			}
+
+			waves.add(wave);
+		}
+
+		logger.debug("Enrichment waves: {}", waves);
+
+		return new EnrichmentSchedule(waves, fusedStage, pool, grainSize);
+	}
+
+	@Override
+	public void close() {
+		if(ownsPool){
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Topological sort of the enrichers, keeping the given order where possible
+	 *
+	 * @param before
+	 * @return the enricher indexes in the order they can run
+	 */
+	private List<Integer> sort(final boolean[][] before){
+		final int count = before.length;
+		int[] waitingOn = new int[count];
+		for(int i=0;i<count;i++){
+			for(int j=0;j<count;j++){
+				if(before[i][j]){
+					waitingOn[j]++;
+				}
+			}
+		}
+
+		List<Integer> order = new ArrayList<>(count);
+		boolean[] done = new boolean[count];
+		while(order.size() < count){
+			int next = -1;
+			for(int i=0;(i<count) && (next < 0);i++){
+				if(!done[i] && (waitingOn[i] == 0)){
+					next = i;
+				}
+			}
+
+			if(next < 0){
+				throw new IllegalStateException("Enrichers depend on each other in a cycle: "
+						+ enrichers);
+			}
+
+			done[next] = true;
+			order.add(next);
+			for(int j=0;j<count;j++){
+				if(before[next][j]){
+					waitingOn[j]--;
+				}
+			}
+		}
+
+		return order;
+	}
+
+	/**
+	 * Work backwards from the required fields to find the enrichers that are needed
+	 *
+	 * @param order
+	 * @param before
+	 * @param required
+	 * @return flags by enricher index
+	 */
+	private boolean[] prune(final List<Integer> order, final boolean[][] before,
+			final Set<BookField> required){
+		boolean[] needed = new boolean[before.length];
+		Set<BookField> neededFields = EnumSet.noneOf(BookField.class);
+		neededFields.addAll(required);
+
+		for(int k=order.size()-1;k>=0;k--){
+			final int i = order.get(k);
+			final AbstractBookEnricher enricher = enrichers.get(i);
+
+			if(overlaps(enricher.getWrites(), neededFields)){
+				needed[i] = true;
+				neededFields.addAll(enricher.getReads());
+			}else{
+				logger.info("Skipping {}, nothing uses its output", enricher);
+			}
+		}
+
+		return needed;
+	}
+
+	private static boolean overlaps(final Set<BookField> first, final Set<BookField> second){
+		boolean overlaps = false;
+
+		for(BookField field: first){
+			overlaps |= second.contains(field);
+		}
+
+		return overlaps;
+	}
+}
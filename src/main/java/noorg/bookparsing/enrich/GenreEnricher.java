@@ -1,11 +1,13 @@
 package noorg.bookparsing.enrich;
 
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 import noorg.bookparsing.domain.types.BookGenre;
 
 /**
@@ -37,63 +39,65 @@ import noorg.bookparsing.domain.types.BookGenre;
 public class GenreEnricher extends AbstractBookEnricher {
 	private static final Logger logger = LoggerFactory.getLogger(GenreEnricher.class);
 	
-	// Some possible shelves that might be used to guess the genre
-	private static final String SHELF_NON_FICTION = "non-fiction";
-	private static final String SHELF_SCI_FI = "sci-fi";
-	private static final String SHELF_SCIENCE_FICTION = "science-fiction";
+	private static final BookGenre[] GENRES = BookGenre.values();
+	
+	@Override
+	public boolean isIndependent() {
+		return true;
+	}
+
+	@Override
+	public Set<BookField> getReads() {
+		return EnumSet.of(BookField.BOOKSHELVES);
+	}
+
+	@Override
+	public Set<BookField> getWrites() {
+		return EnumSet.of(BookField.GENRE);
+	}
 
 	@Override
 	protected void enrichBook(final Book book) {
 		BookGenre genre = BookGenre.UNKNOWN;
-		final List<String> bookshelves = book.getBookshelves();
 		
-		if(bookshelves != null){
-			genres:
-			for(BookGenre g: BookGenre.values()){
-				// use lower case
-				final String genreStr = g.toString().toLowerCase();
-				// first see if any shelf is an exact match
-				if(bookshelves.contains(genreStr)){
-					// easy. we're done
-					genre = g;
-					break genres;
-				}else{
-					// see if any shelf contains one of our genres
-					for(String shelf: bookshelves){
-						if(shelf.contains(genreStr)){
-							// probably good enough
-							genre = g;
-							break genres;
-						}
-					}
-					
-					/* Still don't know? Try some special handling
-					 * 
-					 * TODO what others can we add, or how can this be done 
-					 * better?
-					 */
-					if(BookGenre.UNKNOWN.equals(genre)){
-						for(String shelf: bookshelves){
-							switch(shelf){
-							case SHELF_NON_FICTION:
-								genre = BookGenre.NONFICTION;
-								break genres;
-							case SHELF_SCI_FI:
-							case SHELF_SCIENCE_FICTION:
-								genre = BookGenre.SCIFI;
-								break genres;
-							}
-						}
-					}
-				}
+		long genres = 0;
+		BookGenre special = null;
+		for(int id = book.nextShelfId(0); id >= 0; id = book.nextShelfId(id + 1)){
+			final ShelfClassification shelf = ShelfClassifier.classify(book.getShelfName(id));
+			
+			genres |= shelf.getGenres();
+			// on more than one special shelf, the first genre wins
+			final BookGenre shelfSpecial = shelf.getSpecialGenre();
+			if((shelfSpecial != null) && ((special == null) || (shelfSpecial.compareTo(special) < 0))){
+				special = shelfSpecial;
 			}
 		}
 		
-		if(BookGenre.UNKNOWN.equals(genre)){
-			logger.debug("Unable to find genre from: {}", bookshelves);
+		/* The genres are tried in order, but the special shelves are checked as 
+		 * soon as the first genre isn't found. So the first genre beats them, 
+		 * and they beat all the others.
+		 * 
+		 * TODO what others can we add, or how can this be done better?
+		 */
+		final int first = Long.numberOfTrailingZeros(genres);
+		if(first == 0){
+			genre = GENRES[0];
+		}else if(special != null){
+			genre = special;
+		}else if(genres != 0){
+			genre = GENRES[first];
+		}
+		
+		if(BookGenre.UNKNOWN.equals(genre) && logger.isDebugEnabled()){
+			logger.debug("Unable to find genre from: {}", book.getBookshelves());
 		}
 		
 		book.setGenre(genre);
 	}
 
+	@Override
+	public String getConfiguration() {
+		return super.getConfiguration() + " " + ShelfClassifier.getConfiguration();
+	}
+
 }
@@ -1,8 +1,10 @@
 package noorg.bookparsing.enrich;
 
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 import noorg.bookparsing.domain.types.BookFormat;
 /**
  * <p>Copyright 2014 Robert J. Zak
@@ -31,23 +33,37 @@ import noorg.bookparsing.domain.types.BookFormat;
  *
  */
 public class GraphicNovelEnricher extends AbstractBookEnricher {
-	private static final String GRAPHIC_NOVEL = "graphic-novel";
-	private static final String MANGA = "manga";
+	@Override
+	public boolean isIndependent() {
+		return true;
+	}
+
+	@Override
+	public Set<BookField> getReads() {
+		return EnumSet.of(BookField.BOOKSHELVES);
+	}
+
+	@Override
+	public Set<BookField> getWrites() {
+		return EnumSet.of(BookField.FORMAT);
+	}
 
 	@Override
 	protected void enrichBook(Book book) {
-		final List<String> shelves = book.getBookshelves();
-		
-		if(shelves != null){
-			for(String shelf: shelves){
-				if(shelf.contains(GRAPHIC_NOVEL) || shelf.contains(MANGA)){
-					book.setFormat(BookFormat.GRAPHIC_NOVEL);
-				}
+		for(int id = book.nextShelfId(0); id >= 0; id = book.nextShelfId(id + 1)){
+			if(ShelfClassifier.classify(book.getShelfName(id)).isGraphicNovel()){
+				book.setFormat(BookFormat.GRAPHIC_NOVEL);
+				break;
 			}
 		}
 		
 	}
 
+	@Override
+	public String getConfiguration() {
+		return super.getConfiguration() + " " + ShelfClassifier.getConfiguration();
+	}
+
 	
 
 }
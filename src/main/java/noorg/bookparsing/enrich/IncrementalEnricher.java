@@ -0,0 +1,376 @@
+package noorg.bookparsing.enrich;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
+import noorg.bookparsing.domain.YearSet;
+import noorg.bookparsing.domain.types.BookFormat;
+import noorg.bookparsing.domain.types.BookGenre;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Wraps another enricher to skip books that haven't changed since they were
+ * last enriched. Each book is remembered by its id along with a fingerprint of
+ * its shelves, binding and date read, if those are the same the fields the
+ * enricher wrote last time are copied back instead of running it again.
+ *
+ * <p>Only enrichers that work from those inputs and write per book fields can
+ * be wrapped, see {@link #INPUTS} and {@link #OUTPUTS}. What was remembered
+ * can be saved to a file and loaded on the next run. The file starts with the
+ * name of the enricher and a hash of its configuration, ie the backlog shelf,
+ * shelf rules and keyword tables. A file saved by a different enricher, or one
+ * set up differently, is ignored. Only
+ * the books seen by this run are saved, so books that left the export don't
+ * pile up in the file.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class IncrementalEnricher extends AbstractBookEnricher {
+	private static final Logger logger = LoggerFactory.getLogger(IncrementalEnricher.class);
+
+	/**
+	 * The fields the fingerprint covers
+	 */
+	public static final Set<BookField> INPUTS = EnumSet.of(BookField.BOOKSHELVES,
+			BookField.BINDING, BookField.DATE_READ);
+
+	/**
+	 * The fields that are copied back for an unchanged book
+	 */
+	public static final Set<BookField> OUTPUTS = EnumSet.of(BookField.FORMAT,
+			BookField.GENRE, BookField.YEARS_READ, BookField.FIRST_READ,
+			BookField.FROM_BACKLOG, BookField.READ_BEFORE_GOODREADS);
+
+	private static final String HEADER = "# ";
+	private static final String SEPARATOR = "\t";
+	private static final String YEAR_SEPARATOR = ",";
+	private static final int COLUMN_COUNT = 8;
+
+	// 64 bit FNV-1a
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final AbstractBookEnricher delegate;
+	private final String header;
+	private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+	private final LongAdder reused = new LongAdder();
+	private final LongAdder enriched = new LongAdder();
+
+	/**
+	 * @param delegate
+	 * @throws IllegalArgumentException if the enricher uses fields other than
+	 * {@link #INPUTS} or writes fields other than {@link #OUTPUTS}
+	 */
+	public IncrementalEnricher(final AbstractBookEnricher delegate) {
+		super();
+		if(!INPUTS.containsAll(delegate.getReads()) || !OUTPUTS.containsAll(delegate.getWrites())){
+			throw new IllegalArgumentException(delegate + " can't be enriched incrementally, reads "
+					+ delegate.getReads() + " writes " + delegate.getWrites());
+		}
+		this.delegate = delegate;
+		this.header = HEADER + delegate + SEPARATOR
+				+ Long.toHexString(hash(FNV_OFFSET, delegate.getConfiguration()));
+	}
+
+	@Override
+	public boolean isIndependent() {
+		return delegate.isIndependent();
+	}
+
+	@Override
+	public Set<BookField> getReads() {
+		Set<BookField> reads = EnumSet.of(BookField.BOOK_ID);
+		reads.addAll(INPUTS);
+
+		return reads;
+	}
+
+	@Override
+	public Set<BookField> getWrites() {
+		return delegate.getWrites();
+	}
+
+	@Override
+	protected void enrichBook(final Book book) {
+		final String id = book.getId();
+		final long fingerprint = fingerprint(book);
+		final Snapshot snapshot = (id == null) ? null : snapshots.get(id);
+
+		if((snapshot != null) && (snapshot.fingerprint == fingerprint)){
+			snapshot.restore(book, delegate.getWrites());
+			snapshot.seen = true;
+			reused.increment();
+		}else{
+			delegate.enrichBook(book);
+			enriched.increment();
+			if(id != null){
+				snapshots.put(id, new Snapshot(fingerprint, book));
+			}
+		}
+	}
+
+	/**
+	 * The number of books whose fields were copied from the last run
+	 * @return
+	 */
+	public long getReusedCount() {
+		return reused.sum();
+	}
+
+	/**
+	 * The number of books that had to be enriched
+	 * @return
+	 */
+	public long getEnrichedCount() {
+		return enriched.sum();
+	}
+
+	/**
+	 * Load what was saved by a previous run, does nothing if the file doesn't exist
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public void load(final File file) throws IOException {
+		if(file.isFile()){
+			try(Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)){
+				load(reader);
+			}
+		}
+	}
+
+	/**
+	 * Load what was saved by a previous run
+	 *
+	 * @param reader
+	 * @throws IOException
+	 */
+	public void load(final Reader reader) throws IOException {
+		final BufferedReader lines = new BufferedReader(reader);
+
+		String line = lines.readLine();
+		if(!header.equals(line)){
+			logger.info("Ignoring saved enrichment from a different enricher or setup: {}", line);
+		}else{
+			int count = 0;
+			while((line = lines.readLine()) != null){
+				final String[] columns = line.split(SEPARATOR, -1);
+				try{
+					if(columns.length != COLUMN_COUNT){
+						throw new IllegalArgumentException("Expected " + COLUMN_COUNT
+								+ " columns: " + columns.length);
+					}
+					snapshots.put(columns[0], new Snapshot(columns));
+					count++;
+				}catch(IllegalArgumentException e){
+					logger.warn("Ignoring saved enrichment: {}", line, e);
+				}
+			}
+			logger.debug("Loaded enrichment for {} books", count);
+		}
+	}
+
+	/**
+	 * Save what was enriched, so the next run can skip unchanged books
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public void save(final File file) throws IOException {
+		try(Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)){
+			save(writer);
+		}
+	}
+
+	/**
+	 * Save what was enriched, one book per line separated by tabs. Books
+	 * that were loaded but not seen since are left out.
+	 *
+	 * @param writer
+	 * @throws IOException
+	 */
+	public void save(final Writer writer) throws IOException {
+		writer.write(header);
+		writer.write(System.lineSeparator());
+
+		for(Map.Entry<String, Snapshot> entry: snapshots.entrySet()){
+			if(!entry.getValue().seen){
+				continue;
+			}
+			writer.write(entry.getKey());
+			writer.write(SEPARATOR);
+			entry.getValue().write(writer);
+			writer.write(System.lineSeparator());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "IncrementalEnricher " + delegate;
+	}
+
+	/**
+	 * Hash of the fields the enrichers work from
+	 *
+	 * @param book
+	 * @return
+	 */
+	static long fingerprint(final Book book){
+		long hash = FNV_OFFSET;
+
+		hash = hash(hash, book.getBinding());
+		final LocalDate dateRead = book.getDateRead();
+		hash = hash(hash, (dateRead == null) ? null : dateRead.toString());
+		final List<String> shelves = book.getBookshelves();
+		if(shelves != null){
+			// sorted, the ids a book's shelves come back in depend on the export
+			final String[] sorted = shelves.toArray(new String[shelves.size()]);
+			Arrays.sort(sorted);
+			for(String shelf: sorted){
+				hash = hash(hash, shelf);
+			}
+		}
+
+		return hash;
+	}
+
+	private static long hash(long hash, final String value){
+		if(value != null){
+			for(int i=0;i<value.length();i++){
+				hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+			}
+		}
+
+		// end of value, so "ab" + "c" differs from "a" + "bc"
+		return (hash ^ 0xffff) * FNV_PRIME;
+	}
+
+	/**
+	 * The fields an enricher wrote for a book
+	 */
+	private static class Snapshot {
+		private final long fingerprint;
+		private final BookFormat format;
+		private final BookGenre genre;
+		private final YearSet yearsRead;
+		private final Integer firstRead;
+		private final boolean fromBacklog;
+		private final boolean readBeforeGoodReads;
+		// has this run seen the book, loaded snapshots haven't until they're reused
+		private volatile boolean seen;
+
+		private Snapshot(final long fingerprint, final Book book) {
+			this.seen = true;
+			this.fingerprint = fingerprint;
+			this.format = book.getFormat();
+			this.genre = book.getGenre();
+			this.yearsRead = book.getYearsRead();
+			this.firstRead = book.getFirstRead();
+			this.fromBacklog = book.isFromBacklog();
+			this.readBeforeGoodReads = book.isReadBeforeGoodReads();
+		}
+
+		/**
+		 * Read a saved line
+		 * @param columns
+		 * @throws IllegalArgumentException if a column is invalid
+		 */
+		private Snapshot(final String[] columns) {
+			this.fingerprint = Long.parseUnsignedLong(columns[1], 16);
+			this.format = columns[2].isEmpty() ? null : BookFormat.valueOf(columns[2]);
+			this.genre = columns[3].isEmpty() ? null : BookGenre.valueOf(columns[3]);
+			YearSet years = YearSet.EMPTY;
+			if(!columns[4].isEmpty()){
+				for(String year: columns[4].split(YEAR_SEPARATOR)){
+					years = years.with(Integer.parseInt(year));
+				}
+			}
+			this.yearsRead = years;
+			this.firstRead = columns[5].isEmpty() ? null : Integer.valueOf(columns[5]);
+			this.fromBacklog = Boolean.parseBoolean(columns[6]);
+			this.readBeforeGoodReads = Boolean.parseBoolean(columns[7]);
+		}
+
+		/**
+		 * Copy the fields back to the book
+		 * @param book
+		 * @param fields the fields the enricher writes
+		 */
+		private void restore(final Book book, final Set<BookField> fields){
+			if(fields.contains(BookField.FORMAT)){
+				book.setFormat(format);
+			}
+			if(fields.contains(BookField.GENRE)){
+				book.setGenre(genre);
+			}
+			if(fields.contains(BookField.YEARS_READ)){
+				book.setYearsRead(yearsRead);
+			}
+			if(fields.contains(BookField.FIRST_READ)){
+				book.setFirstRead(firstRead);
+			}
+			if(fields.contains(BookField.FROM_BACKLOG)){
+				book.setFromBacklog(fromBacklog);
+			}
+			if(fields.contains(BookField.READ_BEFORE_GOODREADS)){
+				book.setReadBeforeGoodReads(readBeforeGoodReads);
+			}
+		}
+
+		private void write(final Writer writer) throws IOException {
+			StringBuilder years = new StringBuilder();
+			for(int i=0;i<yearsRead.size();i++){
+				if(i > 0){
+					years.append(YEAR_SEPARATOR);
+				}
+				years.append(yearsRead.get(i));
+			}
+
+			writer.write(Long.toHexString(fingerprint));
+			writer.write(SEPARATOR);
+			writer.write((format == null) ? "" : format.name());
+			writer.write(SEPARATOR);
+			writer.write((genre == null) ? "" : genre.name());
+			writer.write(SEPARATOR);
+			writer.write(years.toString());
+			writer.write(SEPARATOR);
+			writer.write((firstRead == null) ? "" : firstRead.toString());
+			writer.write(SEPARATOR);
+			writer.write(Boolean.toString(fromBacklog));
+			writer.write(SEPARATOR);
+			writer.write(Boolean.toString(readBeforeGoodReads));
+		}
+	}
+}
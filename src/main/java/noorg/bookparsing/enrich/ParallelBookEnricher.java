@@ -0,0 +1,178 @@
+package noorg.bookparsing.enrich;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Wraps another enricher to enrich large lists of books on several cores.
+ * The list is split in half until the pieces are no bigger than the grain size,
+ * and the pieces are enriched on a {@link ForkJoinPool}.
+ *
+ * <p>Only enrichers that are {@link BookEnricher#isIndependent() independent}
+ * are run in parallel, anything else is simply run on the calling thread.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class ParallelBookEnricher implements BookEnricher, AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(
+			ParallelBookEnricher.class);
+
+	/**
+	 * Default number of books enriched by a single task
+	 */
+	public static final int DEFAULT_GRAIN_SIZE = 256;
+
+	private final AbstractBookEnricher delegate;
+	private final ForkJoinPool pool;
+	private final int grainSize;
+	private final boolean ownsPool;
+
+	/**
+	 * Enrich using one thread per available processor
+	 * @param delegate
+	 */
+	public ParallelBookEnricher(final AbstractBookEnricher delegate) {
+		this(delegate, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Enrich on a new pool with the given parallelism. The pool is shut down when
+	 * this enricher is closed.
+	 *
+	 * @param delegate
+	 * @param parallelism
+	 */
+	public ParallelBookEnricher(final AbstractBookEnricher delegate,
+			final int parallelism) {
+		this(delegate, new ForkJoinPool(parallelism), DEFAULT_GRAIN_SIZE, true);
+	}
+
+	/**
+	 * Enrich on an existing pool, ie one shared with a
+	 * {@link noorg.bookparsing.service.impl.ParallelParsingService}. The pool is
+	 * left running when this enricher is closed.
+	 *
+	 * @param delegate
+	 * @param pool
+	 * @param grainSize
+	 */
+	public ParallelBookEnricher(final AbstractBookEnricher delegate,
+			final ForkJoinPool pool, final int grainSize) {
+		this(delegate, pool, grainSize, false);
+	}
+
+	private ParallelBookEnricher(final AbstractBookEnricher delegate,
+			final ForkJoinPool pool, final int grainSize, final boolean ownsPool) {
+		super();
+		if(grainSize < 1){
+			throw new IllegalArgumentException("Grain size must be positive: " + grainSize);
+		}
+		this.delegate = delegate;
+		this.pool = pool;
+		this.grainSize = grainSize;
+		this.ownsPool = ownsPool;
+	}
+
+	@Override
+	public void enrichBooks(final List<Book> books) {
+		if(books != null){
+			if(!delegate.isIndependent() || (books.size() <= grainSize)){
+				delegate.enrichBooks(books);
+			}else{
+				// splitting by index needs a list that's cheap to index
+				final List<Book> indexed = (books instanceof RandomAccess) ?
+						books : new ArrayList<>(books);
+
+				logger.debug("Enriching {} books with parallelism {}", indexed.size(),
+						pool.getParallelism());
+				pool.invoke(new EnrichTask(indexed, 0, indexed.size()));
+			}
+		}
+	}
+
+	@Override
+	public boolean isIndependent() {
+		return delegate.isIndependent();
+	}
+
+	@Override
+	public Set<BookField> getReads() {
+		return delegate.getReads();
+	}
+
+	@Override
+	public Set<BookField> getWrites() {
+		return delegate.getWrites();
+	}
+
+	/**
+	 * The number of threads used to enrich
+	 * @return
+	 */
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	@Override
+	public void close() {
+		if(ownsPool){
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Enrich a range of the books, splitting it if it's larger than the grain size
+	 */
+	private class EnrichTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final List<Book> books;
+		private final int start;
+		private final int end;
+
+		EnrichTask(final List<Book> books, final int start, final int end) {
+			super();
+			this.books = books;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if((end - start) <= grainSize){
+				for(int i=start;i<end;i++){
+					delegate.enrichBook(books.get(i));
+				}
+			}else{
+				final int middle = (start + end) >>> 1;
+				invokeAll(new EnrichTask(books, start, middle),
+						new EnrichTask(books, middle, end));
+			}
+		}
+	}
+}
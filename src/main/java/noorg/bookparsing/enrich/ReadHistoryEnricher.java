@@ -1,14 +1,12 @@
 package noorg.bookparsing.enrich;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.util.EnumSet;
+import java.util.Set;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
+import noorg.bookparsing.domain.YearSet;
 
 /**
  * <p>Copyright 2020 Robert J. Zak
@@ -33,16 +31,6 @@ import noorg.bookparsing.domain.Book;
  *
  */
 public class ReadHistoryEnricher extends AbstractBookEnricher {
-	private static Logger logger = LoggerFactory.getLogger(ReadHistoryEnricher.class);
-	
-	/**
-	 * This prefix will be used to determine additional years a book
-	 * was read if shelved that way.
-	 * 
-	 * Ex: read-2012, read-2014 will add 2012 and 2014 to the list
-	 */
-	private static final String SHELF_YEAR_READ_PREFIX = "read-";
-	
 	/**
 	 * This is a custom shelf you can use to indicate that you read a book before you started 
 	 * tracking them on goodreads. This could indicate that the firstRead date will be wrong/unknown
@@ -53,16 +41,37 @@ public class ReadHistoryEnricher extends AbstractBookEnricher {
 	 */
 	private static final String SHELF_READ_BEFORE_GOODREADS = "read-before-goodreads";
 
+	@Override
+	public boolean isIndependent() {
+		return true;
+	}
+
+	@Override
+	public Set<BookField> getReads() {
+		return EnumSet.of(BookField.DATE_READ, BookField.BOOKSHELVES);
+	}
+
+	@Override
+	public Set<BookField> getWrites() {
+		return EnumSet.of(BookField.YEARS_READ, BookField.FIRST_READ, BookField.READ_BEFORE_GOODREADS);
+	}
+
 	@Override
 	protected void enrichBook(Book book) {
 		// set the years read
-		final SortedSet<Integer> yearsRead = getYearsRead(book.getDateRead(), book.getBookshelves());			
+		final YearSet yearsRead = getYearsRead(book.getDateRead(), book);			
 		book.setYearsRead(yearsRead);
 		if(!yearsRead.isEmpty()) {
 			book.setFirstRead(yearsRead.first());
 		}
 		
-		book.setReadBeforeGoodReads(getReadBeforeGoodReads(book.getBookshelves()));
+		book.setReadBeforeGoodReads(getReadBeforeGoodReads(book));
+	}
+
+	@Override
+	public String getConfiguration() {
+		return super.getConfiguration() + " " + ShelfClassifier.getConfiguration()
+				+ " readBeforeGoodreads=" + SHELF_READ_BEFORE_GOODREADS;
 	}
 	
 	/**
@@ -70,32 +79,25 @@ public class ReadHistoryEnricher extends AbstractBookEnricher {
 	 * By default it will use your book's read date.
 	 * 
 	 * <p>Additionally if you shelf your books by year it will add those years as well.
-	 * see: {@link #SHELF_YEAR_READ}
+	 * see: {@link ShelfClassification#getYearRead()}
 	 * 
 	 * @param dateRead
-	 * @param shelfList
+	 * @param book
 	 * @return
 	 */
-	private SortedSet<Integer> getYearsRead(LocalDate dateRead, List<String> shelfList){
-		SortedSet<Integer> yearsRead = new TreeSet<>();
+	private YearSet getYearsRead(LocalDate dateRead, Book book){
+		YearSet yearsRead = YearSet.EMPTY;
 		
 		// add the year of read date if set
 		if(dateRead != null){		
-			yearsRead.add(dateRead.getYear());
+			yearsRead = yearsRead.with(dateRead.getYear());
 		}
 		
 		// parse shelves for additional years
-		if(shelfList != null){
-			for(String shelf: shelfList){
-				if(shelf.startsWith(SHELF_YEAR_READ_PREFIX)){
-					// possible year shelf
-					final String yearToken = shelf.substring(SHELF_YEAR_READ_PREFIX.length());
-					try{
-						yearsRead.add(Integer.parseInt(yearToken));
-					}catch(Exception e){
-						logger.debug("Failed to convert {} into a year", yearToken, e);
-					}
-				}
+		for(int id = book.nextShelfId(0); id >= 0; id = book.nextShelfId(id + 1)){
+			final int year = ShelfClassifier.classify(book.getShelfName(id)).getYearRead();
+			if(year != ShelfClassification.NO_YEAR){
+				yearsRead = yearsRead.with(year);
 			}
 		}
 		
@@ -106,20 +108,11 @@ public class ReadHistoryEnricher extends AbstractBookEnricher {
 	 * Looks at the shelves to determine if the book was first read before the user started
 	 * tracking their books on Goodreads. This assumes they shelve their data with a custom
 	 * shelf: {@value #SHELF_READ_BEFORE_GOODREADS}
-	 * @param shelfList
+	 * @param book
 	 * @return
 	 */
-	private boolean getReadBeforeGoodReads(final List<String> shelfList) {
-		boolean readBefore = false;
-		if(shelfList != null){
-			for(String shelf: shelfList) {
-				if(shelf.equals(SHELF_READ_BEFORE_GOODREADS)) {
-					readBefore = true;
-				}
-			}
-		}
-		
-		return readBefore;
+	private boolean getReadBeforeGoodReads(final Book book) {
+		return book.hasShelf(SHELF_READ_BEFORE_GOODREADS);
 	}
 
 }
@@ -0,0 +1,282 @@
+package noorg.bookparsing.enrich;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
+import noorg.bookparsing.domain.Contributor;
+import noorg.bookparsing.domain.types.BookFormat;
+import noorg.bookparsing.domain.types.BookGenre;
+import noorg.bookparsing.domain.types.ContributorGender;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Sets fields from the shelves using rules read from a file, so other ways
+ * of shelving books can be supported without code changes. See
+ * {@link ShelfRule} for the format of each rule, blank lines and lines
+ * starting with # are ignored. For example:
+ *
+ * <pre>
+ * # my shelves
+ * *comic*      -&gt; FORMAT=GRAPHIC_NOVEL
+ * to-read-pile -&gt; FROM_BACKLOG=true
+ * finished-*   -&gt; YEARS_READ=*
+ * she-wrote-it -&gt; AUTHOR_GENDER=FEMALE
+ * </pre>
+ *
+ * <p>The rules are only checked once for each shelf, after that the values
+ * for the shelf are looked up by its name. If more than one rule sets the same
+ * field on a book the one first in the file wins, except years read which are
+ * all added.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class RuleBasedEnricher extends AbstractBookEnricher {
+	private static final Logger logger = LoggerFactory.getLogger(RuleBasedEnricher.class);
+
+	private static final String COMMENT = "#";
+	private static final int FIELD_COUNT = BookField.values().length;
+
+	private final List<ShelfRule> rules;
+	private final Map<String, List<ShelfRule>> exactRules = new HashMap<>();
+	private final List<ShelfRule> patternRules = new ArrayList<>();
+	private final Set<BookField> writes = EnumSet.noneOf(BookField.class);
+
+	/**
+	 * What the rules set for each shelf, by shelf name
+	 */
+	private final Map<String, Assignment[]> shelfAssignments = new ConcurrentHashMap<>();
+
+	public RuleBasedEnricher(final List<ShelfRule> rules) {
+		super();
+		this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+
+		// exact names are the common case, so they're a single lookup
+		for(ShelfRule rule: this.rules){
+			final String name = rule.getExactShelf();
+			if(name == null){
+				patternRules.add(rule);
+			}else{
+				exactRules.computeIfAbsent(name, key -> new ArrayList<>()).add(rule);
+			}
+
+			writes.add(rule.getField());
+			if(rule.getField() == BookField.YEARS_READ){
+				writes.add(BookField.FIRST_READ);
+			}
+		}
+	}
+
+	/**
+	 * Read the rules from a file
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 * @throws IllegalArgumentException if a rule is invalid
+	 */
+	public static RuleBasedEnricher load(final File file) throws IOException{
+		try(Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)){
+			return new RuleBasedEnricher(parse(reader));
+		}
+	}
+
+	/**
+	 * Read the rules, one per line
+	 *
+	 * @param reader
+	 * @return
+	 * @throws IOException
+	 * @throws IllegalArgumentException if a rule is invalid
+	 */
+	public static List<ShelfRule> parse(final Reader reader) throws IOException{
+		List<ShelfRule> rules = new ArrayList<>();
+
+		final BufferedReader lines = new BufferedReader(reader);
+		String line;
+		int lineNumber = 0;
+		while((line = lines.readLine()) != null){
+			lineNumber++;
+			final String trimmed = line.trim();
+			if(!trimmed.isEmpty() && !trimmed.startsWith(COMMENT)){
+				try{
+					rules.add(ShelfRule.parse(rules.size(), trimmed));
+				}catch(IllegalArgumentException e){
+					throw new IllegalArgumentException("Line " + lineNumber + ": "
+							+ e.getMessage(), e);
+				}
+			}
+		}
+
+		logger.debug("Read {} shelf rules", rules.size());
+
+		return rules;
+	}
+
+	/**
+	 * The rules in the order they were given
+	 * @return
+	 */
+	public List<ShelfRule> getRules() {
+		return rules;
+	}
+
+	/**
+	 * Setting the gender changes the author rather than the book, which
+	 * callers may share between books
+	 */
+	@Override
+	public boolean isIndependent() {
+		return !writes.contains(BookField.AUTHOR_GENDER);
+	}
+
+	@Override
+	public Set<BookField> getReads() {
+		return EnumSet.of(BookField.BOOKSHELVES);
+	}
+
+	@Override
+	public Set<BookField> getWrites() {
+		return Collections.unmodifiableSet(writes);
+	}
+
+	@Override
+	protected void enrichBook(final Book book) {
+		Assignment[] chosen = null;
+		boolean yearsAdded = false;
+
+		for(int id = book.nextShelfId(0); id >= 0; id = book.nextShelfId(id + 1)){
+			for(Assignment assignment: assignments(book.getShelfName(id))){
+				if(assignment.field == BookField.YEARS_READ){
+					book.addYearRead((Integer)assignment.value);
+					yearsAdded = true;
+				}else{
+					if(chosen == null){
+						chosen = new Assignment[FIELD_COUNT];
+					}
+
+					final int field = assignment.field.ordinal();
+					if((chosen[field] == null) || (assignment.rule < chosen[field].rule)){
+						chosen[field] = assignment;
+					}
+				}
+			}
+		}
+
+		if(yearsAdded){
+			book.setFirstRead(book.getYearsRead().first());
+		}
+
+		if(chosen != null){
+			for(Assignment assignment: chosen){
+				if(assignment != null){
+					set(book, assignment.field, assignment.value);
+				}
+			}
+		}
+	}
+
+	@Override
+	public String getConfiguration() {
+		return super.getConfiguration() + " " + rules;
+	}
+
+	@Override
+	public String toString() {
+		return "RuleBasedEnricher " + rules.size() + " rules";
+	}
+
+	/**
+	 * What the rules set for a shelf, worked out the first time it's seen
+	 *
+	 * @param shelfName
+	 * @return
+	 */
+	private Assignment[] assignments(final String shelfName){
+		return shelfAssignments.computeIfAbsent(shelfName, shelf -> {
+			List<ShelfRule> matching = new ArrayList<>(
+					exactRules.getOrDefault(shelf, Collections.emptyList()));
+			matching.addAll(patternRules);
+
+			List<Assignment> assignments = new ArrayList<>();
+			for(ShelfRule rule: matching){
+				final Object value = rule.apply(shelf);
+				if(value != null){
+					assignments.add(new Assignment(rule.getIndex(), rule.getField(), value));
+				}
+			}
+
+			return assignments.toArray(new Assignment[assignments.size()]);
+		});
+	}
+
+	private static void set(final Book book, final BookField field, final Object value){
+		switch(field){
+		case FORMAT:
+			book.setFormat((BookFormat)value);
+			break;
+		case GENRE:
+			book.setGenre((BookGenre)value);
+			break;
+		case AUTHOR_GENDER:
+			final Contributor author = book.getAuthor();
+			if(author != null){
+				author.setGender((ContributorGender)value);
+			}
+			break;
+		case FROM_BACKLOG:
+			book.setFromBacklog((Boolean)value);
+			break;
+		case READ_BEFORE_GOODREADS:
+			book.setReadBeforeGoodReads((Boolean)value);
+			break;
+		default:
+			logger.warn("Rules can't set {}", field);
+		}
+	}
+
+	/**
+	 * A value a rule sets for a shelf
+	 */
+	private static class Assignment {
+		private final int rule;
+		private final BookField field;
+		private final Object value;
+
+		private Assignment(final int rule, final BookField field, final Object value) {
+			this.rule = rule;
+			this.field = field;
+			this.value = value;
+		}
+	}
+}
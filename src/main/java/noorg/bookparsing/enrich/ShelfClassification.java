@@ -0,0 +1,108 @@
+package noorg.bookparsing.enrich;
+
+import noorg.bookparsing.domain.types.BookGenre;
+import noorg.bookparsing.domain.types.ContributorGender;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>What the enrichers can tell from the name of a single shelf. These are
+ * made once per shelf by the {@link ShelfClassifier} and never change.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public final class ShelfClassification {
+	/**
+	 * Returned by {@link #getYearRead()} if the shelf isn't a read year
+	 */
+	public static final int NO_YEAR = Integer.MIN_VALUE;
+
+	private final String shelf;
+	private final boolean graphicNovel;
+	private final long genres;
+	private final BookGenre specialGenre;
+	private final int yearRead;
+	private final ContributorGender authorGender;
+
+	ShelfClassification(final String shelf, final boolean graphicNovel,
+			final long genres, final BookGenre specialGenre, final int yearRead,
+			final ContributorGender authorGender) {
+		super();
+		this.shelf = shelf;
+		this.graphicNovel = graphicNovel;
+		this.genres = genres;
+		this.specialGenre = specialGenre;
+		this.yearRead = yearRead;
+		this.authorGender = authorGender;
+	}
+
+	/**
+	 * The shelf name
+	 * @return
+	 */
+	public String getShelf() {
+		return shelf;
+	}
+
+	/**
+	 * Does the shelf mark a graphic novel or manga
+	 * @return
+	 */
+	public boolean isGraphicNovel() {
+		return graphicNovel;
+	}
+
+	/**
+	 * The genres whose name is part of the shelf
+	 * @return bit i is set for the genre with ordinal i
+	 */
+	public long getGenres() {
+		return genres;
+	}
+
+	/**
+	 * The genre if the shelf is exactly one of the other names used for a genre,
+	 * ie sci-fi
+	 * @return the genre or null
+	 */
+	public BookGenre getSpecialGenre() {
+		return specialGenre;
+	}
+
+	/**
+	 * The year from a read-YYYY shelf
+	 * @return the year or {@link #NO_YEAR}
+	 */
+	public int getYearRead() {
+		return yearRead;
+	}
+
+	/**
+	 * The author gender from an author-* shelf
+	 * @return the gender or null
+	 */
+	public ContributorGender getAuthorGender() {
+		return authorGender;
+	}
+
+	@Override
+	public String toString() {
+		return "ShelfClassification [shelf=" + shelf + ", graphicNovel=" + graphicNovel
+				+ ", genres=" + Long.toBinaryString(genres) + ", specialGenre="
+				+ specialGenre + ", yearRead=" + yearRead + ", authorGender="
+				+ authorGender + "]";
+	}
+}
@@ -0,0 +1,202 @@
+package noorg.bookparsing.enrich;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.types.BookGenre;
+import noorg.bookparsing.domain.types.ContributorGender;
+import noorg.bookparsing.util.KeywordMatcher;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Works out what each shelf means for the enrichers, once per shelf. The
+ * same few hundred shelves are on every book, so the results are cached by
+ * shelf name and shared by all the enrichers. What a shelf means only depends
+ * on its name, so the cache holds good across exports.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public final class ShelfClassifier {
+	private static final Logger logger = LoggerFactory.getLogger(ShelfClassifier.class);
+
+	// Shelves that mark a graphic novel
+	private static final String GRAPHIC_NOVEL = "graphic-novel";
+	private static final String MANGA = "manga";
+
+	/**
+	 * Some other possible shelves that might be used to guess the genre, and
+	 * their special genre. These only count if they're the whole shelf.
+	 */
+	private static final String[] SYNONYMS = {"non-fiction", "sci-fi", "science-fiction"};
+	private static final BookGenre[] SYNONYM_GENRES = {BookGenre.NONFICTION, BookGenre.SCIFI,
+			BookGenre.SCIFI};
+
+	/* The keywords looked for in a shelf. First the lower case name of each
+	 * genre in enum order, matched anywhere in the shelf, then the synonyms.
+	 */
+	private static final String[] KEYWORDS;
+	private static final BookGenre[] KEYWORD_GENRES;
+	private static final long GENRE_MASK;
+	private static final KeywordMatcher KEYWORD_MATCHER;
+	static {
+		final BookGenre[] genres = BookGenre.values();
+		KEYWORDS = new String[genres.length + SYNONYMS.length];
+		KEYWORD_GENRES = new BookGenre[KEYWORDS.length];
+		for(int i=0;i<genres.length;i++){
+			KEYWORDS[i] = genres[i].toString().toLowerCase();
+			KEYWORD_GENRES[i] = genres[i];
+		}
+		for(int i=0;i<SYNONYMS.length;i++){
+			KEYWORDS[genres.length + i] = SYNONYMS[i];
+			KEYWORD_GENRES[genres.length + i] = SYNONYM_GENRES[i];
+		}
+		GENRE_MASK = (1L << genres.length) - 1;
+		KEYWORD_MATCHER = new KeywordMatcher(KEYWORDS);
+	}
+
+	/**
+	 * This prefix will be used to determine additional years a book
+	 * was read if shelved that way.
+	 *
+	 * Ex: read-2012, read-2014 will add 2012 and 2014 to the list
+	 */
+	private static final String SHELF_YEAR_READ_PREFIX = "read-";
+
+	// Shelves for the author's gender
+	private static final String AUTHOR_FEMALE = "author-female";
+	private static final String AUTHOR_MALE = "author-male";
+	private static final String AUTHOR_NON_BINARY = "author-non_binary";
+
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+
+	private static final Map<String, ShelfClassification> CACHE = new ConcurrentHashMap<>();
+
+	private ShelfClassifier() {
+		super();
+	}
+
+	/**
+	 * Get what the shelf means, working it out the first time it is asked for
+	 *
+	 * @param shelf the shelf name
+	 * @return
+	 */
+	public static ShelfClassification classify(final String shelf){
+		ShelfClassification classification = CACHE.get(shelf);
+
+		if(classification == null){
+			MISSES.increment();
+			classification = CACHE.computeIfAbsent(shelf, ShelfClassifier::create);
+		}else{
+			HITS.increment();
+		}
+
+		return classification;
+	}
+
+	/**
+	 * The shelves and keywords the classifications are worked out from, for
+	 * {@link AbstractBookEnricher#getConfiguration()}
+	 * @return
+	 */
+	public static String getConfiguration(){
+		return "ShelfClassifier keywords=" + Arrays.toString(KEYWORDS)
+				+ " genres=" + Arrays.toString(KEYWORD_GENRES)
+				+ " graphicNovel=" + Arrays.asList(GRAPHIC_NOVEL, MANGA)
+				+ " yearRead=" + SHELF_YEAR_READ_PREFIX
+				+ " authorGender=" + Arrays.asList(AUTHOR_FEMALE, AUTHOR_MALE, AUTHOR_NON_BINARY);
+	}
+
+	/**
+	 * The number of lookups that found the shelf already classified
+	 * @return
+	 */
+	public static long getHitCount(){
+		return HITS.sum();
+	}
+
+	/**
+	 * The number of lookups that had to classify the shelf
+	 * @return
+	 */
+	public static long getMissCount(){
+		return MISSES.sum();
+	}
+
+	/**
+	 * Summary of the cache statistics for logging
+	 * @return
+	 */
+	public static String getStatistics(){
+		return "ShelfClassifier [hits=" + getHitCount() + ", misses=" + getMissCount()
+				+ "]";
+	}
+
+	/**
+	 * Work out what a single shelf means
+	 * @param shelf
+	 * @return
+	 */
+	private static ShelfClassification create(final String shelf){
+		final boolean graphicNovel = shelf.contains(GRAPHIC_NOVEL) || shelf.contains(MANGA);
+
+		final long matches = KEYWORD_MATCHER.match(shelf);
+
+		// a synonym is only special if it's the whole shelf
+		BookGenre specialGenre = null;
+		for(long synonyms = matches & ~GENRE_MASK; synonyms != 0; synonyms &= synonyms - 1){
+			final int keyword = Long.numberOfTrailingZeros(synonyms);
+			if(KEYWORDS[keyword].length() == shelf.length()){
+				specialGenre = KEYWORD_GENRES[keyword];
+				break;
+			}
+		}
+
+		int yearRead = ShelfClassification.NO_YEAR;
+		if(shelf.startsWith(SHELF_YEAR_READ_PREFIX)){
+			// possible year shelf
+			final String yearToken = shelf.substring(SHELF_YEAR_READ_PREFIX.length());
+			try{
+				yearRead = Integer.parseInt(yearToken);
+			}catch(NumberFormatException e){
+				logger.debug("Failed to convert {} into a year", yearToken, e);
+			}
+		}
+
+		ContributorGender authorGender = null;
+		switch(shelf){
+		case AUTHOR_FEMALE:
+			authorGender = ContributorGender.FEMALE;
+			break;
+		case AUTHOR_MALE:
+			authorGender = ContributorGender.MALE;
+			break;
+		case AUTHOR_NON_BINARY:
+			authorGender = ContributorGender.NON_BINARY;
+			break;
+		}
+
+		return new ShelfClassification(shelf, graphicNovel, matches & GENRE_MASK,
+				specialGenre, yearRead, authorGender);
+	}
+}
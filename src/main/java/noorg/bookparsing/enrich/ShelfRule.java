@@ -0,0 +1,247 @@
+package noorg.bookparsing.enrich;
+
+import noorg.bookparsing.domain.BookField;
+import noorg.bookparsing.domain.types.BookFormat;
+import noorg.bookparsing.domain.types.BookGenre;
+import noorg.bookparsing.domain.types.ContributorGender;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>A single line of a rule file: a shelf pattern and the field to set on
+ * books with a matching shelf.
+ *
+ * <pre>
+ * pattern -&gt; FIELD=value
+ * </pre>
+ *
+ * <p>The pattern is either an exact shelf name, or has a * at the start, end,
+ * or both to match the end of, start of, or anywhere in the shelf name. The
+ * field is one of:
+ *
+ * <ul>
+ * <li>{@link BookField#FORMAT} a {@link BookFormat}</li>
+ * <li>{@link BookField#GENRE} a {@link BookGenre}</li>
+ * <li>{@link BookField#AUTHOR_GENDER} a {@link ContributorGender}</li>
+ * <li>{@link BookField#FROM_BACKLOG} true or false</li>
+ * <li>{@link BookField#READ_BEFORE_GOODREADS} true or false</li>
+ * <li>{@link BookField#YEARS_READ} a year, or * for the part of the shelf
+ * matched by the * in the pattern</li>
+ * </ul>
+ *
+ * @author Robert J. Zak
+ *
+ */
+public final class ShelfRule {
+	private static final String ARROW = "->";
+	private static final String WILDCARD = "*";
+
+	/**
+	 * How the pattern is compared to the shelf
+	 */
+	enum Match {
+		EXACT, PREFIX, SUFFIX, CONTAINS;
+	}
+
+	private final int index;
+	private final String pattern;
+	private final Match match;
+	private final String text;
+	private final BookField field;
+	private final Object value;
+
+	private ShelfRule(final int index, final String pattern, final Match match,
+			final String text, final BookField field, final Object value) {
+		super();
+		this.index = index;
+		this.pattern = pattern;
+		this.match = match;
+		this.text = text;
+		this.field = field;
+		this.value = value;
+	}
+
+	/**
+	 * Parse a line of a rule file
+	 *
+	 * @param index the position of the rule in the file, earlier rules win
+	 * @param line
+	 * @return
+	 * @throws IllegalArgumentException if the line isn't a valid rule
+	 */
+	public static ShelfRule parse(final int index, final String line){
+		final int arrow = line.indexOf(ARROW);
+		final int equals = line.indexOf('=', arrow + ARROW.length());
+		if((arrow < 0) || (equals < 0)){
+			throw new IllegalArgumentException("Expected 'pattern -> FIELD=value': " + line);
+		}
+
+		final String pattern = line.substring(0, arrow).trim();
+		final String fieldName = line.substring(arrow + ARROW.length(), equals).trim();
+		final String valueText = line.substring(equals + 1).trim();
+
+		// work out how the pattern matches
+		Match match = Match.EXACT;
+		String text = pattern;
+		final boolean leading = pattern.startsWith(WILDCARD);
+		final boolean trailing = (pattern.length() > 1) && pattern.endsWith(WILDCARD);
+		if(leading && trailing){
+			match = Match.CONTAINS;
+			text = pattern.substring(1, pattern.length() - 1);
+		}else if(leading){
+			match = Match.SUFFIX;
+			text = pattern.substring(1);
+		}else if(trailing){
+			match = Match.PREFIX;
+			text = pattern.substring(0, pattern.length() - 1);
+		}
+		if(text.isEmpty() || text.contains(WILDCARD)){
+			throw new IllegalArgumentException("Unsupported shelf pattern: " + pattern);
+		}
+
+		final BookField field;
+		try{
+			field = BookField.valueOf(fieldName);
+		}catch(IllegalArgumentException e){
+			throw new IllegalArgumentException("Unknown field: " + fieldName, e);
+		}
+
+		return new ShelfRule(index, pattern, match, text, field,
+				parseValue(field, valueText, match));
+	}
+
+	/**
+	 * Position of the rule in its file
+	 * @return
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * The field the rule sets
+	 * @return
+	 */
+	public BookField getField() {
+		return field;
+	}
+
+	/**
+	 * The shelf name if the rule only matches one shelf
+	 * @return the name or null
+	 */
+	public String getExactShelf() {
+		return (match == Match.EXACT) ? text : null;
+	}
+
+	/**
+	 * Does the rule apply to the shelf
+	 *
+	 * @param shelf
+	 * @return the value to set on the field, null if the rule doesn't apply
+	 */
+	public Object apply(final String shelf){
+		String captured = null;
+
+		switch(match){
+		case EXACT:
+			captured = shelf.equals(text) ? "" : null;
+			break;
+		case PREFIX:
+			captured = shelf.startsWith(text) ? shelf.substring(text.length()) : null;
+			break;
+		case SUFFIX:
+			captured = shelf.endsWith(text) ?
+					shelf.substring(0, shelf.length() - text.length()) : null;
+			break;
+		case CONTAINS:
+			captured = shelf.contains(text) ? "" : null;
+			break;
+		}
+
+		Object result = null;
+		if(captured != null){
+			if(value == null){
+				// the year comes from the shelf
+				try{
+					result = Integer.valueOf(captured);
+				}catch(NumberFormatException e){
+					// not a year, the rule doesn't apply
+				}
+			}else{
+				result = value;
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return pattern + " " + ARROW + " " + field + "=" + ((value == null) ? WILDCARD : value);
+	}
+
+	/**
+	 * Convert the value for the field
+	 *
+	 * @param field
+	 * @param value
+	 * @param match
+	 * @return the value, or null if it comes from the shelf
+	 */
+	private static Object parseValue(final BookField field, final String value,
+			final Match match){
+		Object parsed;
+
+		try{
+			switch(field){
+			case FORMAT:
+				parsed = BookFormat.valueOf(value);
+				break;
+			case GENRE:
+				parsed = BookGenre.valueOf(value);
+				break;
+			case AUTHOR_GENDER:
+				parsed = ContributorGender.valueOf(value);
+				break;
+			case FROM_BACKLOG:
+			case READ_BEFORE_GOODREADS:
+				if(!"true".equals(value) && !"false".equals(value)){
+					throw new IllegalArgumentException("Expected true or false: " + value);
+				}
+				parsed = Boolean.valueOf(value);
+				break;
+			case YEARS_READ:
+				if(WILDCARD.equals(value)){
+					if((match != Match.PREFIX) && (match != Match.SUFFIX)){
+						throw new IllegalArgumentException(
+								"A year from the shelf needs a pattern starting or ending with *");
+					}
+					parsed = null;
+				}else{
+					parsed = Integer.valueOf(value);
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Rules can't set " + field);
+			}
+		}catch(IllegalArgumentException e){
+			throw new IllegalArgumentException("Invalid value for " + field + ": "
+					+ e.getMessage(), e);
+		}
+
+		return parsed;
+	}
+}
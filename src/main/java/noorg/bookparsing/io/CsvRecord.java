@@ -0,0 +1,138 @@
+package noorg.bookparsing.io;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>A record split into fields by a {@link MappedCsvRecordReader}. The fields
+ * that were decoded are kept as their UTF-8 bytes with the quoting removed,
+ * only {@link #get(int)} turns one into a {@link String}.
+ *
+ * <p>The record is also a {@link CharSequence} with one char per byte, so a
+ * number or date can be decoded straight from the bytes between
+ * {@link #getStart(int)} and {@link #getEnd(int)}. Any non ASCII text reads
+ * as Latin-1 that way, use {@link #get(int)} for text.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public final class CsvRecord implements CharSequence {
+	private static final int NOT_DECODED = -1;
+
+	private final byte[] bytes;
+	private final int[] starts;
+	private final int[] ends;
+
+	/**
+	 * @param bytes the decoded fields one after another
+	 * @param starts where each field starts in the bytes, or -1 if it wasn't decoded
+	 * @param ends where each field ends in the bytes
+	 */
+	CsvRecord(final byte[] bytes, final int[] starts, final int[] ends) {
+		super();
+		this.bytes = bytes;
+		this.starts = starts;
+		this.ends = ends;
+	}
+
+	/**
+	 * The number of fields in the record
+	 * @return
+	 */
+	public int size() {
+		return starts.length;
+	}
+
+	/**
+	 * Was the field decoded, fields the reader was told to skip weren't
+	 * @param index
+	 * @return
+	 */
+	public boolean isDecoded(final int index) {
+		return starts[index] != NOT_DECODED;
+	}
+
+	/**
+	 * The value of a field
+	 * @param index
+	 * @return the value, or null if it wasn't decoded
+	 */
+	public String get(final int index) {
+		String field = null;
+
+		if(isDecoded(index)){
+			field = new String(bytes, starts[index], ends[index] - starts[index],
+					StandardCharsets.UTF_8);
+		}
+
+		return field;
+	}
+
+	/**
+	 * Where the field starts in this sequence
+	 * @param index a decoded field
+	 * @return inclusive
+	 */
+	public int getStart(final int index) {
+		return starts[index];
+	}
+
+	/**
+	 * Where the field ends in this sequence
+	 * @param index a decoded field
+	 * @return exclusive
+	 */
+	public int getEnd(final int index) {
+		return ends[index];
+	}
+
+	/**
+	 * All the fields as strings
+	 * @return the values, null for the fields that weren't decoded
+	 */
+	public String[] toArray() {
+		String[] fields = new String[starts.length];
+		for(int i=0;i<fields.length;i++){
+			fields[i] = get(i);
+		}
+
+		return fields;
+	}
+
+	@Override
+	public int length() {
+		return bytes.length;
+	}
+
+	@Override
+	public char charAt(final int index) {
+		return (char)(bytes[index] & 0xff);
+	}
+
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+		return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * The bytes of the decoded fields one char per byte, ie for logging a bad
+	 * value. Use {@link #toArray()} for the fields.
+	 */
+	@Override
+	public String toString() {
+		return new String(bytes, StandardCharsets.ISO_8859_1);
+	}
+}
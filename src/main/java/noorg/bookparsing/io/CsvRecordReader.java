@@ -0,0 +1,276 @@
+package noorg.bookparsing.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Reads a CSV export one logical record at a time. Unlike
+ * {@link java.io.BufferedReader#readLine()} a newline inside a quoted field
+ * (ie a multi-line "My Review" or "Private Notes") does not end the record, so
+ * each record returned can be handed straight to the parser.
+ *
+ * <p>Only the record currently being read is held in memory. A record that grows
+ * past the maximum length (usually an unbalanced quote) is logged and skipped
+ * rather than swallowing the rest of the file, reading carries on from the line
+ * after the one it started on.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class CsvRecordReader implements Iterable<String>, Closeable {
+	private static final Logger logger = LoggerFactory.getLogger(
+			CsvRecordReader.class);
+
+	/**
+	 * Default limit on the number of characters in a single record.
+	 */
+	public static final int DEFAULT_MAX_RECORD_LENGTH = 1 << 20;
+
+	private static final int BUFFER_SIZE = 8192;
+	private static final char QUOTE = '"';
+	private static final char CARRIAGE_RETURN = '\r';
+	private static final char NEW_LINE = '\n';
+
+	private final Reader reader;
+	private final int maxRecordLength;
+	private final char[] buffer = new char[BUFFER_SIZE];
+	private final StringBuilder record = new StringBuilder();
+	private int position;
+	private int limit;
+	// text read past a skipped record that has to be read again
+	private String pending = "";
+	private int pendingPosition;
+	private long recordNumber;
+	private long skippedCount;
+
+	/**
+	 * Read UTF-8 records from the given stream
+	 * @param input
+	 */
+	public CsvRecordReader(final InputStream input) {
+		this(new InputStreamReader(input, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Read records from the given reader using the {@link #DEFAULT_MAX_RECORD_LENGTH}
+	 * @param reader
+	 */
+	public CsvRecordReader(final Reader reader) {
+		this(reader, DEFAULT_MAX_RECORD_LENGTH);
+	}
+
+	/**
+	 * Read records from the given reader
+	 * @param reader
+	 * @param maxRecordLength the maximum number of characters allowed in one record
+	 */
+	public CsvRecordReader(final Reader reader, final int maxRecordLength) {
+		super();
+		if(reader == null){
+			throw new IllegalArgumentException("Reader cannot be null");
+		}
+		this.reader = reader;
+		this.maxRecordLength = maxRecordLength;
+	}
+
+	/**
+	 * Read the next logical record. Line endings between records are removed,
+	 * line endings inside quoted fields are preserved. Blank lines are skipped,
+	 * as are records longer than the maximum length.
+	 *
+	 * @return the next record or null if the end of the input has been reached
+	 * @throws IOException
+	 */
+	public String readRecord() throws IOException {
+		String next = null;
+		boolean skipped;
+
+		do{
+			record.setLength(0);
+			boolean inQuotes = false;
+			skipped = false;
+
+			while(true){
+				final int value = read();
+				if(value < 0){
+					if(inQuotes){
+						logger.warn("Record {} ends with an unterminated quoted field",
+								recordNumber + 1);
+					}
+					break;
+				}
+
+				final char c = (char)value;
+				if(c == QUOTE){
+					// an escaped quote ("") simply toggles twice
+					inQuotes = !inQuotes;
+				}else if((c == NEW_LINE) && !inQuotes){
+					stripCarriageReturn();
+					if(record.length() > 0){
+						break;
+					}
+
+					// blank line, keep looking
+					continue;
+				}
+
+				record.append(c);
+				if(record.length() > maxRecordLength){
+					skipRecord();
+					skipped = true;
+					break;
+				}
+			}
+		}while(skipped);
+
+		stripCarriageReturn();
+		if(record.length() > 0){
+			recordNumber++;
+			next = record.toString();
+		}
+
+		return next;
+	}
+
+	/**
+	 * How many records have been read so far
+	 * @return
+	 */
+	public long getRecordNumber() {
+		return recordNumber;
+	}
+
+	/**
+	 * How many records were skipped for being longer than the maximum length
+	 * @return
+	 */
+	public long getSkippedCount() {
+		return skippedCount;
+	}
+
+	/**
+	 * Iterate the remaining records. The iterator reads from the same underlying
+	 * input, so it can only be used once.
+	 */
+	@Override
+	public Iterator<String> iterator() {
+		return new Iterator<String>() {
+			private String next;
+
+			@Override
+			public boolean hasNext() {
+				if(next == null){
+					try {
+						next = readRecord();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+
+				return next != null;
+			}
+
+			@Override
+			public String next() {
+				if(!hasNext()){
+					throw new NoSuchElementException();
+				}
+
+				final String current = next;
+				next = null;
+
+				return current;
+			}
+		};
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	/**
+	 * The next character, from the text to read again first
+	 * @return the character or -1 at the end of the input
+	 * @throws IOException
+	 */
+	private int read() throws IOException {
+		if(pendingPosition < pending.length()){
+			return pending.charAt(pendingPosition++);
+		}
+
+		if(position >= limit){
+			limit = reader.read(buffer, 0, buffer.length);
+			position = 0;
+
+			if(limit < 0){
+				// end of input
+				limit = 0;
+				return -1;
+			}
+		}
+
+		return buffer[position++];
+	}
+
+	/**
+	 * Drop the record that's too long. Only its first line is dropped, the
+	 * lines read after it are read again as it's probably an unbalanced quote
+	 * that ran into the records after it.
+	 *
+	 * @throws IOException
+	 */
+	private void skipRecord() throws IOException {
+		recordNumber++;
+		skippedCount++;
+		logger.error("Record {} exceeds {} characters, skipping it", recordNumber,
+				maxRecordLength);
+
+		final int lineEnd = record.indexOf(String.valueOf(NEW_LINE));
+		if(lineEnd >= 0){
+			pending = record.substring(lineEnd + 1) + pending.substring(pendingPosition);
+			pendingPosition = 0;
+		}else{
+			// the line itself is too long, skip the rest of it
+			int value;
+			do{
+				value = read();
+			}while((value >= 0) && (value != NEW_LINE));
+		}
+		record.setLength(0);
+	}
+
+	/**
+	 * Helper to drop the carriage return of a Windows line ending
+	 */
+	private void stripCarriageReturn(){
+		final int length = record.length();
+		if((length > 0) && (record.charAt(length - 1) == CARRIAGE_RETURN)){
+			record.setLength(length - 1);
+		}
+	}
+}
@@ -0,0 +1,420 @@
+package noorg.bookparsing.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Memory maps a UTF-8 CSV export and splits it into fields directly from the
+ * mapped bytes. There is no intermediate line {@link String} and no second pass
+ * through a CSV parser. Each record is a {@link CsvRecord} holding the raw
+ * bytes of the columns asked for, so numbers and dates can be decoded without
+ * ever becoming a {@link String}. Columns that are not wanted are skipped.
+ *
+ * <p>The file is mapped a window at a time, so it can be any size. A record
+ * that runs past the end of a window is read again from a new window that
+ * starts with it, and a single record larger than a window grows the window.
+ *
+ * <p>This is meant for bulk re-processing of files already on disk, use
+ * {@link CsvRecordReader} for anything else.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class MappedCsvRecordReader implements Iterable<CsvRecord>, Closeable {
+	private static final Logger logger = LoggerFactory.getLogger(
+			MappedCsvRecordReader.class);
+
+	/**
+	 * Default number of bytes mapped at once
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 1 << 26;
+
+	private static final byte QUOTE = '"';
+	private static final byte SEPARATOR = ',';
+	private static final byte CARRIAGE_RETURN = '\r';
+	private static final byte NEW_LINE = '\n';
+	private static final byte[] UTF8_BOM = {(byte)0xEF, (byte)0xBB, (byte)0xBF};
+	private static final int NOT_DECODED = -1;
+
+	private final FileChannel channel;
+	private final long size;
+	private int windowSize;
+	private MappedByteBuffer buffer;
+	private long windowStart;
+	private int position;
+	private boolean[] columns;
+	// the current record, the decoded fields one after another
+	private byte[] scratch = new byte[256];
+	private int length;
+	private int[] starts = new int[32];
+	private int[] ends = new int[32];
+	private int fieldCount;
+	private long recordNumber;
+
+	/**
+	 * Map the given file and decode every column
+	 * @param path
+	 * @throws IOException
+	 */
+	public MappedCsvRecordReader(final Path path) throws IOException {
+		this(path, null);
+	}
+
+	/**
+	 * Map the given file and only decode the given columns
+	 *
+	 * @param path
+	 * @param columns flags indexed by column, true to decode the column. Columns
+	 * past the end of the array are skipped. Null decodes every column.
+	 * @throws IOException
+	 */
+	public MappedCsvRecordReader(final Path path, final boolean[] columns) throws IOException {
+		this(path, columns, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Map the given file a window at a time and only decode the given columns
+	 *
+	 * @param path
+	 * @param columns flags indexed by column, true to decode the column. Columns
+	 * past the end of the array are skipped. Null decodes every column.
+	 * @param windowSize the number of bytes to map at once
+	 * @throws IOException
+	 */
+	public MappedCsvRecordReader(final Path path, final boolean[] columns,
+			final int windowSize) throws IOException {
+		super();
+		if(windowSize < 1){
+			throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+		}
+		this.columns = columns;
+		this.windowSize = windowSize;
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+
+		try {
+			size = channel.size();
+			map(0);
+			skipByteOrderMark();
+		}catch(IOException e){
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Read the next record
+	 *
+	 * @return the record, or null at the end of the file
+	 * @throws IOException if the next window can't be mapped
+	 */
+	public CsvRecord readRecord() throws IOException {
+		while(true){
+			// skip blank lines
+			while((position < buffer.limit()) && isLineEnd(buffer.get(position))){
+				position++;
+			}
+
+			if(position >= buffer.limit()){
+				if(!hasNextWindow()){
+					return null;
+				}
+				map(windowStart + position);
+				continue;
+			}
+
+			final int recordStart = position;
+			readFields();
+
+			if((position >= buffer.limit()) && hasNextWindow()){
+				// the record may carry on in the next window, read it again from its start
+				if(recordStart == 0){
+					growWindow();
+				}
+				map(windowStart + recordStart);
+				continue;
+			}
+
+			break;
+		}
+
+		// consume the line ending
+		if((position < buffer.limit()) && (buffer.get(position) == CARRIAGE_RETURN)){
+			position++;
+		}
+		if((position < buffer.limit()) && (buffer.get(position) == NEW_LINE)){
+			position++;
+		}
+
+		recordNumber++;
+
+		return new CsvRecord(Arrays.copyOf(scratch, length),
+				Arrays.copyOf(starts, fieldCount), Arrays.copyOf(ends, fieldCount));
+	}
+
+	/**
+	 * Change which columns are decoded for the records still to be read, ie
+	 * once the header has been read and the wanted columns are known.
+	 *
+	 * @param columns flags indexed by column, true to decode the column. Columns
+	 * past the end of the array are skipped. Null decodes every column.
+	 */
+	public void setColumns(final boolean[] columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * How many records have been read so far
+	 * @return
+	 */
+	public long getRecordNumber() {
+		return recordNumber;
+	}
+
+	/**
+	 * Iterate the remaining records, can only be used once.
+	 */
+	@Override
+	public Iterator<CsvRecord> iterator() {
+		return new Iterator<CsvRecord>() {
+			private CsvRecord next;
+
+			@Override
+			public boolean hasNext() {
+				if(next == null){
+					try {
+						next = readRecord();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+
+				return next != null;
+			}
+
+			@Override
+			public CsvRecord next() {
+				if(!hasNext()){
+					throw new NoSuchElementException();
+				}
+
+				final CsvRecord current = next;
+				next = null;
+
+				return current;
+			}
+		};
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Split the record starting at the current position into the scratch
+	 * buffer, stopping at its line ending or the end of the window
+	 */
+	private void readFields(){
+		length = 0;
+		fieldCount = 0;
+		int column = 0;
+		boolean endOfRecord = false;
+		while(!endOfRecord){
+			final boolean decode = isWanted(column);
+			final int start = length;
+
+			if((position < buffer.limit()) && (buffer.get(position) == QUOTE)){
+				readQuotedField(decode);
+			}else{
+				readField(decode);
+			}
+			addField(decode ? start : NOT_DECODED);
+
+			if((position < buffer.limit()) && (buffer.get(position) == SEPARATOR)){
+				position++;
+				column++;
+			}else{
+				endOfRecord = true;
+			}
+		}
+	}
+
+	/**
+	 * Read an unquoted field up to the next separator or line ending
+	 * @param decode true to copy the field to the scratch buffer
+	 */
+	private void readField(final boolean decode){
+		final int limit = buffer.limit();
+		final int start = position;
+
+		while(position < limit){
+			final byte b = buffer.get(position);
+			if((b == SEPARATOR) || isLineEnd(b)){
+				break;
+			}
+			position++;
+		}
+
+		if(decode){
+			final int fieldLength = position - start;
+			ensureScratch(length + fieldLength);
+			buffer.get(start, scratch, length, fieldLength);
+			length += fieldLength;
+		}
+	}
+
+	/**
+	 * Read a quoted field, which may contain separators, line endings and
+	 * escaped ("") quotes.
+	 *
+	 * @param decode true to copy the field to the scratch buffer
+	 */
+	private void readQuotedField(final boolean decode){
+		final int limit = buffer.limit();
+		boolean closed = false;
+
+		// skip the opening quote
+		position++;
+		while(position < limit){
+			final byte b = buffer.get(position++);
+
+			if(b == QUOTE){
+				if((position < limit) && (buffer.get(position) == QUOTE)){
+					// escaped quote
+					position++;
+				}else{
+					closed = true;
+					break;
+				}
+			}
+
+			if(decode){
+				ensureScratch(length + 1);
+				scratch[length++] = b;
+			}
+		}
+
+		// a field cut off by the window is read again
+		if(!closed && !hasNextWindow()){
+			logger.warn("Record {} ends with an unterminated quoted field",
+					recordNumber + 1);
+		}
+
+		// anything between the closing quote and the separator is dropped
+		while((position < limit) && (buffer.get(position) != SEPARATOR)
+				&& !isLineEnd(buffer.get(position))){
+			position++;
+		}
+	}
+
+	/**
+	 * Record where the field just read ends
+	 * @param start where it starts in the scratch buffer, or -1 if it wasn't decoded
+	 */
+	private void addField(final int start){
+		if(fieldCount == starts.length){
+			starts = Arrays.copyOf(starts, fieldCount * 2);
+			ends = Arrays.copyOf(ends, fieldCount * 2);
+		}
+
+		starts[fieldCount] = start;
+		ends[fieldCount] = (start == NOT_DECODED) ? NOT_DECODED : length;
+		fieldCount++;
+	}
+
+	/**
+	 * Map the window starting at the given offset
+	 * @param offset
+	 * @throws IOException
+	 */
+	private void map(final long offset) throws IOException {
+		buffer = channel.map(MapMode.READ_ONLY, offset, Math.min(windowSize, size - offset));
+		windowStart = offset;
+		position = 0;
+	}
+
+	/**
+	 * Double the window, for a record that doesn't fit in one
+	 * @throws IOException if the window can't get any bigger
+	 */
+	private void growWindow() throws IOException {
+		if(windowSize == Integer.MAX_VALUE){
+			throw new IOException("Record " + (recordNumber + 1) + " is larger than "
+					+ Integer.MAX_VALUE + " bytes");
+		}
+
+		windowSize = (int)Math.min(2L * windowSize, Integer.MAX_VALUE);
+		logger.debug("Record {} is larger than the window, mapping {} bytes",
+				recordNumber + 1, windowSize);
+	}
+
+	/**
+	 * Is there more of the file after the current window
+	 * @return
+	 */
+	private boolean hasNextWindow(){
+		return (windowStart + buffer.limit()) < size;
+	}
+
+	/**
+	 * Should the given column be decoded
+	 * @param column
+	 * @return
+	 */
+	private boolean isWanted(final int column){
+		return (columns == null) || ((column < columns.length) && columns[column]);
+	}
+
+	private boolean isLineEnd(final byte b){
+		return (b == NEW_LINE) || (b == CARRIAGE_RETURN);
+	}
+
+	/**
+	 * Grow the scratch buffer if needed
+	 * @param required
+	 */
+	private void ensureScratch(final int required){
+		if(required > scratch.length){
+			scratch = Arrays.copyOf(scratch, Math.max(required, scratch.length * 2));
+		}
+	}
+
+	private void skipByteOrderMark() throws IOException {
+		if(size >= UTF8_BOM.length){
+			// read it from the channel, it may not all be in a small window
+			ByteBuffer start = ByteBuffer.allocate(UTF8_BOM.length);
+			channel.read(start, 0);
+
+			if(Arrays.equals(start.array(), UTF8_BOM)){
+				position = UTF8_BOM.length;
+			}
+		}
+	}
+}
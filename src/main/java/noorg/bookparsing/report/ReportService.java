@@ -1,8 +1,12 @@
 package noorg.bookparsing.report;
 
+import java.io.IOException;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 import noorg.bookparsing.report.format.BookFormatter;
 
 
@@ -38,4 +42,30 @@ public interface ReportService {
 	 */
 	public String generateReport(final List<Book> books, 
 			BookFormatter formatter);
+	
+	/**
+	 * Generate a Report from the given list of {@link Book}s using the
+	 * provided {@link BookFormatter}, writing it out as it goes rather than
+	 * building it all in memory. By default the whole report is built and
+	 * then written.
+	 * 
+	 * @param books
+	 * @param formatter
+	 * @param out where to write the report
+	 * @throws IOException if the report can't be written
+	 */
+	public default void generateReport(final List<Book> books, 
+			final BookFormatter formatter, final Appendable out) throws IOException{
+		out.append(generateReport(books, formatter));
+	}
+	
+	/**
+	 * The fields of the books this report uses, not counting the ones used by
+	 * the {@link BookFormatter}. By default it is assumed to use all of them.
+	 * 
+	 * @return
+	 */
+	public default Set<BookField> getRequiredFields(){
+		return EnumSet.allOf(BookField.class);
+	}
 }
@@ -1,8 +1,11 @@
 package noorg.bookparsing.report.format;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 
 
 /**
@@ -41,4 +44,14 @@ public interface BookFormatter {
 	 * @return
 	 */
 	public List<String> getFormatHeaders();
+	
+	/**
+	 * The fields of the book used by this format. By default it is assumed to
+	 * use all of them.
+	 * 
+	 * @return
+	 */
+	public default Set<BookField> getRequiredFields(){
+		return EnumSet.allOf(BookField.class);
+	}
 }
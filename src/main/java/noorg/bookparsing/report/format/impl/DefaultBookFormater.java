@@ -3,9 +3,12 @@ package noorg.bookparsing.report.format.impl;
 import static noorg.bookparsing.util.Utils.getString;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 import noorg.bookparsing.report.format.BookFormatter;
 
 
@@ -49,6 +52,12 @@ public class DefaultBookFormater extends AbstractBookFormatter {
 		return columns;
 	}
 
+	@Override
+	public Set<BookField> getRequiredFields() {
+		return EnumSet.of(BookField.TITLE, BookField.AUTHOR, BookField.DATE_READ,
+				BookField.MY_RATING, BookField.GENRE, BookField.NUMBER_OF_PAGES);
+	}
+
 	@Override
 	public List<String> getFormatHeaders() {
 		List<String> columns = new ArrayList<>();
@@ -1,6 +1,12 @@
 package noorg.bookparsing.report.impl;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import noorg.bookparsing.domain.Book;
 import noorg.bookparsing.report.ReportService;
+import noorg.bookparsing.report.format.BookFormatter;
 
 
 /**
@@ -24,6 +30,26 @@ import noorg.bookparsing.report.ReportService;
  *
  */
 public abstract class AbstractReportService implements ReportService {
-	// placeholder for now..
 
+	/**
+	 * Reports are written with {@link #generateReport(List, BookFormatter, Appendable)},
+	 * this just collects it in a string.
+	 */
+	@Override
+	public String generateReport(final List<Book> books, final BookFormatter formatter) {
+		StringBuilder sb = new StringBuilder();
+		
+		try {
+			generateReport(books, formatter, sb);
+		} catch (IOException e) {
+			// a StringBuilder doesn't throw
+			throw new UncheckedIOException(e);
+		}
+		
+		return sb.toString();
+	}
+	
+	@Override
+	public abstract void generateReport(final List<Book> books, final BookFormatter formatter,
+			final Appendable out) throws IOException;
 }
@@ -3,14 +3,18 @@ package noorg.bookparsing.report.impl;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 import noorg.bookparsing.domain.Contributor;
 import noorg.bookparsing.report.format.BookFormatter;
 
@@ -45,15 +49,20 @@ public class AuthorCountsReportService extends AbstractReportService {
 	}
 
 	@Override
-	public String generateReport(List<Book> books, BookFormatter formatter) {
-		StringBuilder sb = new StringBuilder();		
+	public Set<BookField> getRequiredFields() {
+		return EnumSet.of(BookField.AUTHOR, BookField.READ_COUNT);
+	}
+
+	@Override
+	public void generateReport(final List<Book> books, final BookFormatter formatter,
+			final Appendable out) throws IOException {
 		Map<Contributor, Long> authorCounts = books.stream().filter(b-> (b.getReadCount()> 0)).collect(groupingBy(Book::getAuthor, counting()));
 		SortedMap<Long, List<Contributor>> sortedCounts = new TreeMap<>(Collections.reverseOrder());
 		
 		// TODO add book lists?
 		// TODO bug in read count logic? am I counting stuff I DNF/put on hold?
-		sb.append("\n\nAuthor Counts:\n");
-		sb.append("*****************************************\n");
+		out.append("\n\nAuthor Counts:\n");
+		out.append("*****************************************\n");
 		for(Contributor contributor: authorCounts.keySet()){
 			final long count = authorCounts.get(contributor);
 			
@@ -71,7 +80,8 @@ public class AuthorCountsReportService extends AbstractReportService {
 		for(Long readCount: sortedCounts.keySet()) {
 			List<Contributor> contributors = sortedCounts.get(readCount);
 			for(Contributor contributor: contributors) {
-				sb.append(authorsAdded + 1).append(": ").append(contributor).append(" - ").append(readCount).append("\n");
+				out.append(String.valueOf(authorsAdded + 1)).append(": ").append(String.valueOf(contributor))
+						.append(" - ").append(String.valueOf(readCount)).append("\n");
 			}
 			
 			if (++authorsAdded >= authorCount) {
@@ -79,8 +89,6 @@ public class AuthorCountsReportService extends AbstractReportService {
 			}
 		}
 		
-		sb.append("*****************************************\n");
-		
-		return sb.toString();
+		out.append("*****************************************\n");
 	}
 }
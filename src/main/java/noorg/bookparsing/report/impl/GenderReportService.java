@@ -1,10 +1,14 @@
 package noorg.bookparsing.report.impl;
 
+import java.io.IOException;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 import noorg.bookparsing.domain.Contributor;
 import noorg.bookparsing.domain.report.GenderReport;
 import noorg.bookparsing.domain.types.ContributorGender;
@@ -40,7 +44,14 @@ public class GenderReportService extends AbstractReportService {
 	private Map<ContributorGender, GenderReport> reports = new HashMap<>();
 
 	@Override
-	public String generateReport(List<Book> books, BookFormatter formatter) {
+	public Set<BookField> getRequiredFields() {
+		return EnumSet.of(BookField.AUTHOR, BookField.AUTHOR_GENDER, BookField.YEARS_READ,
+				BookField.DATE_READ);
+	}
+
+	@Override
+	public void generateReport(final List<Book> books, final BookFormatter formatter,
+			final Appendable out) throws IOException {
 		
 		/* TODO when YearlyReportService is re-factored, much of this code should move up to AbstractReportService.
 		 * It's very boiler plate and most of it is copied right from the GenreReportService
@@ -78,16 +89,12 @@ public class GenderReportService extends AbstractReportService {
 		}
 		
 		// Generate the report output
-		StringBuilder sb = new StringBuilder();
-		
-		sb.append("\n\n**********Gender Report***************");
-		sb.append("\nTotal Books: ").append(totalBooks);
+		out.append("\n\n**********Gender Report***************");
+		out.append("\nTotal Books: ").append(String.valueOf(totalBooks));
 		for(GenderReport report: reports.values()){
-			sb.append(report.getReport()).append("\n");
+			report.appendReport(out, formatter);
+			out.append("\n");
 		}
-		sb.append("*************************************");
-		
-		
-		return sb.toString();
+		out.append("*************************************");
 	}
 }
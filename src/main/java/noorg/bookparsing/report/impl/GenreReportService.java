@@ -1,13 +1,17 @@
 package noorg.bookparsing.report.impl;
 
+import java.io.IOException;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 import noorg.bookparsing.domain.report.GenreReport;
 import noorg.bookparsing.domain.types.BookGenre;
 import noorg.bookparsing.report.format.BookFormatter;
@@ -39,7 +43,13 @@ public class GenreReportService extends AbstractReportService {
 	private Map<BookGenre, GenreReport> reports = new HashMap<>();
 
 	@Override
-	public String generateReport(List<Book> books, BookFormatter formatter) {
+	public Set<BookField> getRequiredFields() {
+		return EnumSet.of(BookField.GENRE, BookField.YEARS_READ, BookField.DATE_READ);
+	}
+
+	@Override
+	public void generateReport(final List<Book> books, final BookFormatter formatter,
+			final Appendable out) throws IOException {
 		
 		// Create the Reports
 		int totalBooks = 0;
@@ -61,17 +71,13 @@ public class GenreReportService extends AbstractReportService {
 		}
 		
 		// Generate the report output
-		StringBuilder sb = new StringBuilder();
-		
-		sb.append("\n\n**********Genre Report***************");
-		sb.append("\nTotal Books: ").append(totalBooks);
+		out.append("\n\n**********Genre Report***************");
+		out.append("\nTotal Books: ").append(String.valueOf(totalBooks));
 		for(GenreReport report: reports.values()){
-			sb.append(report.getReport()).append("\n");
+			report.appendReport(out, formatter);
+			out.append("\n");
 		}
-		sb.append("*************************************");
-		
-		
-		return sb.toString();
+		out.append("*************************************");
 	}
 
 }
@@ -1,13 +1,16 @@
 package noorg.bookparsing.report.impl;
 
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
 import noorg.bookparsing.domain.report.BacklogYearToYearReport;
 import noorg.bookparsing.domain.report.BookFormatYearToYearReport;
 import noorg.bookparsing.domain.report.BookGenreYearToYearReport;
@@ -16,6 +19,7 @@ import noorg.bookparsing.domain.report.DecadeYearToYearReport;
 import noorg.bookparsing.domain.report.GenderYearToYearReport;
 import noorg.bookparsing.domain.report.ReadingQuantityYearToYearReport;
 import noorg.bookparsing.domain.report.YearlyReport;
+import noorg.bookparsing.domain.report.YearlyReportAccumulator;
 import noorg.bookparsing.report.format.BookFormatter;
 
 
@@ -49,31 +53,41 @@ public class YearlyReportService extends AbstractReportService {
 	}
 
 	@Override
-	public String generateReport(List<Book> books, BookFormatter formatter) {
-		StringBuilder sb = new StringBuilder();		
-		List<YearlyReport> reports = new ArrayList<>();
-		
-		sb.append("Yearly Reports:\n");
-		for(Integer reportYear: reportYears){
-		
-			YearlyReport report = new YearlyReport(reportYear);
-			books.forEach(book-> report.addBook(book));
+	public Set<BookField> getRequiredFields() {
+		return EnumSet.of(BookField.TITLE, BookField.AUTHOR, BookField.AUTHOR_GENDER,
+				BookField.MY_RATING, BookField.NUMBER_OF_PAGES, BookField.YEAR_OF_PUBLICATION,
+				BookField.ORIGINAL_PUBLICATION_YEAR, BookField.DATE_READ, BookField.FORMAT,
+				BookField.GENRE, BookField.YEARS_READ, BookField.FIRST_READ,
+				BookField.FROM_BACKLOG, BookField.READ_BEFORE_GOODREADS);
+	}
 
-			reports.add(report);
-			sb.append("*****************************************\n");
-			sb.append(report.getReport());
+	@Override
+	public void generateReport(final List<Book> books, final BookFormatter formatter,
+			final Appendable out) throws IOException {
+		// one pass, each book goes to the years it was read
+		final List<YearlyReport> reports = books.parallelStream().collect(
+				YearlyReportAccumulator.collector(reportYears));
+		
+		out.append("Yearly Reports:\n");
+		for(YearlyReport report: reports){
+			out.append("*****************************************\n");
+			report.appendReport(out, formatter);
 		}
 		
 		// Now do some year to year comparison reports
-		sb.append("Year-to-Year Summary:\n\n");		
-		sb.append(new BookGenreYearToYearReport(reports).getReport()).append("\n\n");
-		sb.append(new BookRatingsYearToYearReport(reports).getReport()).append("\n\n");
-		sb.append(new DecadeYearToYearReport(reports).getReport()).append("\n\n");
-		sb.append(new GenderYearToYearReport(reports).getReport()).append("\n\n");
-		sb.append(new BookFormatYearToYearReport(reports).getReport()).append("\n\n");
-		sb.append(new ReadingQuantityYearToYearReport(reports).getReport()).append("\n\n");
-		sb.append(new BacklogYearToYearReport(reports).getReport());
-		
-		return sb.toString();
+		out.append("Year-to-Year Summary:\n\n");
+		new BookGenreYearToYearReport(reports).appendReport(out);
+		out.append("\n\n");
+		new BookRatingsYearToYearReport(reports).appendReport(out);
+		out.append("\n\n");
+		new DecadeYearToYearReport(reports).appendReport(out);
+		out.append("\n\n");
+		new GenderYearToYearReport(reports).appendReport(out);
+		out.append("\n\n");
+		new BookFormatYearToYearReport(reports).appendReport(out);
+		out.append("\n\n");
+		new ReadingQuantityYearToYearReport(reports).appendReport(out);
+		out.append("\n\n");
+		new BacklogYearToYearReport(reports).appendReport(out);
 	}
 }
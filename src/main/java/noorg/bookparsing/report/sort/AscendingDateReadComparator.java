@@ -21,7 +21,8 @@ import noorg.bookparsing.domain.Book;
  * See the License for the specific language governing permissions and
  * limitations under the License.
  * 
- * <p>Compare two books by read date in ascending order.
+ * <p>Compare two books by read date in ascending order. Books read on the
+ * same day are ordered by title, books without a title last.
  * 
  * @author Robert J. Zak
  *
@@ -52,6 +53,22 @@ public class AscendingDateReadComparator implements Comparator<Book> {
 			val = 1;
 		}
 		
+		if(val == 0){
+			val = compareTitles(book1.getTitle(), book2.getTitle());
+		}
+		
+		return val;
+	}
+	
+	private static int compareTitles(final String title1, final String title2){
+		int val = 0;
+		
+		if(title1 != null){
+			val = (title2 != null) ? title1.compareTo(title2) : -1;
+		}else if(title2 != null){
+			val = 1;
+		}
+		
 		return val;
 	}
 
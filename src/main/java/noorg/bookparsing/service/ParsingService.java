@@ -1,5 +1,9 @@
 package noorg.bookparsing.service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
 import noorg.bookparsing.domain.Book;
 
 /**
@@ -30,5 +34,36 @@ public interface ParsingService<INPUT,OUTPUT extends Book> {
 	 * @return
 	 */
 	public OUTPUT parse(final INPUT input);
+	
+	/**
+	 * Parse every input into a {@link Book}, keeping the order of the inputs.
+	 * 
+	 * <p>Implementations should reuse any parsing state between inputs rather
+	 * than setting it up again for every record.
+	 * 
+	 * @param inputs
+	 * @return
+	 */
+	public default List<OUTPUT> parseAll(final Iterable<INPUT> inputs){
+		List<OUTPUT> outputs = new ArrayList<>();
+		
+		if(inputs != null){
+			for(INPUT input: inputs){
+				outputs.add(parse(input));
+			}
+		}
+		
+		return outputs;
+	}
+	
+	/**
+	 * Lazily parse a stream of inputs into {@link Book}s
+	 * 
+	 * @param inputs
+	 * @return
+	 */
+	public default Stream<OUTPUT> parseStream(final Stream<INPUT> inputs){
+		return inputs.map(this::parse);
+	}
 
 }
@@ -0,0 +1,203 @@
+package noorg.bookparsing.service.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Where to find each {@link GoodReadsColumn} in a record. The plan is compiled
+ * once from the export's header row and then applied to every record, so
+ * Goodreads adding or moving columns doesn't shift our data into the wrong
+ * fields.
+ *
+ * <p>A plan can also be limited to the columns we actually use. Columns
+ * outside of the projection are treated as if they weren't in the export.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class ColumnPlan {
+	private static final Logger logger = LoggerFactory.getLogger(ColumnPlan.class);
+
+	private static final int NOT_PRESENT = -1;
+	private static final GoodReadsColumn[] COLUMNS = GoodReadsColumn.values();
+
+	/**
+	 * Index into the record for each column, by ordinal
+	 */
+	private final int[] indexes;
+	private final Set<GoodReadsColumn> projection;
+	private final int columnCount;
+
+	private ColumnPlan(final int[] indexes, final Set<GoodReadsColumn> projection,
+			final int columnCount) {
+		super();
+		this.indexes = indexes;
+		this.projection = Collections.unmodifiableSet(projection);
+		this.columnCount = columnCount;
+	}
+
+	/**
+	 * A plan for an export without a header, assuming the columns are in the
+	 * order of {@link GoodReadsColumn}
+	 *
+	 * @param projection the columns to use
+	 * @return
+	 */
+	public static ColumnPlan withoutHeader(final Set<GoodReadsColumn> projection){
+		int[] indexes = new int[COLUMNS.length];
+		Arrays.fill(indexes, NOT_PRESENT);
+
+		final EnumSet<GoodReadsColumn> used = copy(projection);
+		for(GoodReadsColumn column: used){
+			indexes[column.ordinal()] = column.ordinal();
+		}
+
+		return new ColumnPlan(indexes, used, COLUMNS.length);
+	}
+
+	/**
+	 * Compile a plan from the export's header row.
+	 *
+	 * @param headers the header row
+	 * @param projection the columns to use
+	 * @return the plan, or null if none of the headers are known columns
+	 */
+	public static ColumnPlan fromHeader(final String[] headers,
+			final Set<GoodReadsColumn> projection){
+		int[] indexes = new int[COLUMNS.length];
+		Arrays.fill(indexes, NOT_PRESENT);
+
+		final EnumSet<GoodReadsColumn> wanted = copy(projection);
+		final EnumSet<GoodReadsColumn> used = EnumSet.noneOf(GoodReadsColumn.class);
+		boolean known = false;
+		for(int i=0;i<headers.length;i++){
+			final GoodReadsColumn column = GoodReadsColumn.fromHeader(headers[i]);
+
+			if(column == null){
+				logger.info("Ignoring unknown column {}: {}", i, headers[i]);
+			}else{
+				known = true;
+
+				if(indexes[column.ordinal()] != NOT_PRESENT){
+					logger.warn("Column {} appears more than once, using the first", column);
+				}else if(wanted.contains(column)){
+					indexes[column.ordinal()] = i;
+					used.add(column);
+				}
+			}
+		}
+
+		ColumnPlan plan = null;
+		if(known){
+			for(GoodReadsColumn column: wanted){
+				if(!used.contains(column)){
+					logger.warn("Export is missing column: {}", column.getHeader());
+				}
+			}
+
+			plan = new ColumnPlan(indexes, used, headers.length);
+		}
+
+		return plan;
+	}
+
+	/**
+	 * Get the value of a column from a record.
+	 *
+	 * @param tokens
+	 * @param column
+	 * @return the value, or null if the column isn't present or projected
+	 */
+	public String get(final String[] tokens, final GoodReadsColumn column){
+		String value = null;
+
+		final int index = indexes[column.ordinal()];
+		if((index != NOT_PRESENT) && (index < tokens.length)){
+			value = tokens[index];
+		}
+
+		return value;
+	}
+
+	/**
+	 * Where the column is in each record
+	 *
+	 * @param column
+	 * @return the index, or -1 if the column isn't present or projected
+	 */
+	public int indexOf(final GoodReadsColumn column){
+		return indexes[column.ordinal()];
+	}
+
+	/**
+	 * Is the column both in the export and in the projection
+	 * @param column
+	 * @return
+	 */
+	public boolean isProjected(final GoodReadsColumn column){
+		return indexes[column.ordinal()] != NOT_PRESENT;
+	}
+
+	/**
+	 * The columns this plan will read
+	 * @return
+	 */
+	public Set<GoodReadsColumn> getProjection() {
+		return projection;
+	}
+
+	/**
+	 * The number of columns expected in each record
+	 * @return
+	 */
+	public int getColumnCount() {
+		return columnCount;
+	}
+
+	/**
+	 * Flags indexed by record position for the columns this plan reads, ie for
+	 * {@link noorg.bookparsing.io.MappedCsvRecordReader} to skip decoding the rest.
+	 *
+	 * @return
+	 */
+	public boolean[] getColumnMask(){
+		boolean[] mask = new boolean[columnCount];
+
+		for(int index: indexes){
+			if(index != NOT_PRESENT){
+				mask[index] = true;
+			}
+		}
+
+		return mask;
+	}
+
+	private static EnumSet<GoodReadsColumn> copy(final Set<GoodReadsColumn> columns){
+		EnumSet<GoodReadsColumn> copy = EnumSet.noneOf(GoodReadsColumn.class);
+
+		if(columns != null){
+			copy.addAll(columns);
+		}
+
+		return copy;
+	}
+}
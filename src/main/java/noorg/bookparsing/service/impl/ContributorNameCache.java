@@ -0,0 +1,77 @@
+package noorg.bookparsing.service.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import noorg.bookparsing.domain.Contributor;
+import noorg.bookparsing.domain.types.ContributorRole;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Parses each author name from the export once and shares the parsed name
+ * parts between every book by that author, instead of each record splitting
+ * the name and creating its own strings. Safe to use from multiple threads.
+ *
+ * <p>Every book still gets its own {@link Contributor}, only the immutable
+ * name strings are shared, so anything set on a contributor, ie its gender,
+ * only applies to the book it was set on.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class ContributorNameCache {
+	private final Map<String, Contributor> names = new ConcurrentHashMap<>();
+
+	/**
+	 * Get a new contributor for the raw name, only parsing the name the first
+	 * time it is seen.
+	 *
+	 * @param name the name from the export
+	 * @param role the role of the new contributor
+	 * @param parser splits a new name into its parts, the role of the
+	 * contributor it returns is ignored
+	 * @return a contributor with the shared name parts, or null if the parser
+	 * returns null
+	 */
+	public Contributor get(final String name, final ContributorRole role,
+			final Function<String, Contributor> parser){
+		final Contributor parsed = names.computeIfAbsent(name, parser);
+
+		Contributor contributor = null;
+		if(parsed != null){
+			contributor = new Contributor(parsed.getFirstName(),
+					parsed.getMiddleName(), parsed.getLastName(), role);
+		}
+
+		return contributor;
+	}
+
+	/**
+	 * The number of distinct names seen
+	 * @return
+	 */
+	public int size(){
+		return names.size();
+	}
+
+	/**
+	 * Forget every name, ie before parsing an unrelated export
+	 */
+	public void clear(){
+		names.clear();
+	}
+}
@@ -0,0 +1,109 @@
+package noorg.bookparsing.service.impl;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>The columns of the Goodreads CSV export, matched by their header names.
+ * The constants are declared in the order Goodreads exported them when the
+ * parser was written, which is also the order assumed if there is no header.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public enum GoodReadsColumn {
+	BOOK_ID("Book Id"),
+	TITLE("Title"),
+	AUTHOR("Author"),
+	AUTHOR_LAST_FIRST("Author l-f"),
+	ADDITIONAL_AUTHORS("Additional Authors"),
+	ISBN("ISBN"),
+	ISBN13("ISBN13"),
+	MY_RATING("My Rating"),
+	AVERAGE_RATING("Average Rating"),
+	PUBLISHER("Publisher"),
+	BINDING("Binding"),
+	NUMBER_OF_PAGES("Number of Pages"),
+	YEAR_PUBLISHED("Year Published"),
+	ORIGINAL_PUBLICATION_YEAR("Original Publication Year"),
+	DATE_READ("Date Read"),
+	DATE_ADDED("Date Added"),
+	BOOKSHELVES("Bookshelves"),
+	BOOKSHELVES_WITH_POSITIONS("Bookshelves with positions"),
+	EXCLUSIVE_SHELF("Exclusive Shelf"),
+	MY_REVIEW("My Review"),
+	SPOILER("Spoiler"),
+	PRIVATE_NOTES("Private Notes"),
+	READ_COUNT("Read Count"),
+	RECOMMENDED_FOR("Recommended For"),
+	RECOMMENDED_BY("Recommended By"),
+	OWNED_COPIES("Owned Copies"),
+	ORIGINAL_PURCHASE_DATE("Original Purchase Date"),
+	ORIGINAL_PURCHASE_LOCATION("Original Purchase Location"),
+	CONDITION("Condition"),
+	CONDITION_DESCRIPTION("Condition Description"),
+	BCID("BCID");
+
+	/**
+	 * The columns used by the enrichers and reports. Parsing only these skips
+	 * the large free text columns such as reviews and private notes.
+	 */
+	public static final Set<GoodReadsColumn> REPORT_COLUMNS = Collections.unmodifiableSet(
+			EnumSet.of(BOOK_ID, TITLE, AUTHOR, MY_RATING, BINDING, NUMBER_OF_PAGES,
+					YEAR_PUBLISHED, ORIGINAL_PUBLICATION_YEAR, DATE_READ, BOOKSHELVES,
+					EXCLUSIVE_SHELF, READ_COUNT));
+
+	private static final Map<String, GoodReadsColumn> BY_HEADER = new HashMap<>();
+	static {
+		for(GoodReadsColumn column: values()){
+			BY_HEADER.put(column.getHeader(), column);
+		}
+	}
+
+	private final String header;
+
+	private GoodReadsColumn(final String header) {
+		this.header = header;
+	}
+
+	/**
+	 * The name of this column in the export's header row
+	 * @return
+	 */
+	public String getHeader() {
+		return header;
+	}
+
+	/**
+	 * Find the column for a header name.
+	 *
+	 * @param header
+	 * @return the column or null if the header isn't one we know about
+	 */
+	public static GoodReadsColumn fromHeader(final String header){
+		GoodReadsColumn column = null;
+
+		if(header != null){
+			column = BY_HEADER.get(header.trim());
+		}
+
+		return column;
+	}
+}
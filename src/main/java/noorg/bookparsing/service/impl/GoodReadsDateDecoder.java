@@ -0,0 +1,149 @@
+package noorg.bookparsing.service.impl;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Decodes the yyyy/MM/dd dates in the Goodreads export. The digits are read
+ * straight out of the string rather than going through a
+ * {@link java.time.format.DateTimeFormatter}, and bad input gives null instead
+ * of an exception. Counting bad dates is left to the caller, ie
+ * {@link ParseSummary#recordMalformed(GoodReadsColumn)}.
+ *
+ * <p>Exports have a lot of books added or read on the same few days, so
+ * recently decoded dates are kept in a small cache. The cache is direct mapped,
+ * a new date simply replaces whatever was in its slot. Safe to share between
+ * threads.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class GoodReadsDateDecoder {
+	private static final int DATE_LENGTH = 10;
+	private static final char SEPARATOR = '/';
+
+	/**
+	 * Must be a power of 2
+	 */
+	private static final int CACHE_SIZE = 1024;
+
+	private final LocalDate[] cache = new LocalDate[CACHE_SIZE];
+
+	/**
+	 * Decode a date
+	 *
+	 * @param input
+	 * @return the date, or null if the input is empty or not a valid yyyy/MM/dd date
+	 */
+	public LocalDate decode(final String input){
+		return (input == null) ? null : decode(input, 0, input.length());
+	}
+
+	/**
+	 * Decode a date from part of the input
+	 *
+	 * @param input
+	 * @param start inclusive
+	 * @param end exclusive
+	 * @return the date, or null if it's empty or not a valid yyyy/MM/dd date
+	 */
+	public LocalDate decode(final CharSequence input, final int start, final int end){
+		LocalDate date = null;
+
+		if(start < end){
+			final int key = toKey(input, start, end);
+
+			if(key >= 0){
+				date = lookup(key);
+			}
+		}
+
+		return date;
+	}
+
+	/**
+	 * Find the date in the cache, or create it and cache it
+	 *
+	 * @param key the date packed as yyyyMMdd
+	 * @return
+	 */
+	private LocalDate lookup(final int key){
+		final int year = key / 10000;
+		final int month = (key / 100) % 100;
+		final int day = key % 100;
+
+		// LocalDate is immutable, so a racy read sees either a whole date or null
+		final int slot = (key ^ (key >>> 7)) & (CACHE_SIZE - 1);
+		LocalDate date = cache[slot];
+		if((date == null) || (date.getDayOfMonth() != day) ||
+				(date.getMonthValue() != month) || (date.getYear() != year)){
+			date = LocalDate.of(year, month, day);
+			cache[slot] = date;
+		}
+
+		return date;
+	}
+
+	/**
+	 * Pack a yyyy/MM/dd date into yyyyMMdd, checking it is a real date
+	 *
+	 * @param input
+	 * @param start inclusive
+	 * @param end exclusive
+	 * @return the packed date, or -1 if it isn't valid
+	 */
+	private static int toKey(final CharSequence input, final int start, final int end){
+		if(((end - start) != DATE_LENGTH) || (input.charAt(start + 4) != SEPARATOR) ||
+				(input.charAt(start + 7) != SEPARATOR)){
+			return -1;
+		}
+
+		final int year = digits(input, start, start + 4);
+		final int month = digits(input, start + 5, start + 7);
+		final int day = digits(input, start + 8, start + 10);
+
+		if((year < 0) || (month < 1) || (month > 12) || (day < 1) ||
+				(day > Month.of(month).length(Year.isLeap(year)))){
+			return -1;
+		}
+
+		return (year * 10000) + (month * 100) + day;
+	}
+
+	/**
+	 * Read a run of decimal digits
+	 *
+	 * @param input
+	 * @param start inclusive
+	 * @param end exclusive
+	 * @return the value, or -1 if a character isn't a digit
+	 */
+	private static int digits(final CharSequence input, final int start, final int end){
+		int value = 0;
+
+		for(int i=start;i<end;i++){
+			final char c = input.charAt(i);
+			if((c < '0') || (c > '9')){
+				return -1;
+			}
+			value = (value * 10) + (c - '0');
+		}
+
+		return value;
+	}
+}
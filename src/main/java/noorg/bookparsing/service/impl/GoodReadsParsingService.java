@@ -2,10 +2,10 @@ package noorg.bookparsing.service.impl;
 
 import java.io.IOException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Calendar;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,9 +14,11 @@ import com.opencsv.CSVParser;
 
 import noorg.bookparsing.domain.Book;
 import noorg.bookparsing.domain.Contributor;
+import noorg.bookparsing.domain.ShelfDictionary;
 import noorg.bookparsing.domain.types.BookCondition;
 import noorg.bookparsing.domain.types.BookFormat;
 import noorg.bookparsing.domain.types.ContributorRole;
+import noorg.bookparsing.io.CsvRecord;
 import noorg.bookparsing.service.ParsingService;
 
 
@@ -45,151 +47,476 @@ public class GoodReadsParsingService implements ParsingService<String, Book> {
 	private static final Logger logger = LoggerFactory.getLogger(
 			GoodReadsParsingService.class);
 	
-	// TODO move this?
-	protected static final DateTimeFormatter GOODREADS_DATE_FORMAT = 
-			DateTimeFormatter.ofPattern("yyyy/MM/dd");
+	private static final String BYTE_ORDER_MARK = "\uFEFF";
+	
+	/* Creating a CSVParser for every row (and again for every list in the row)
+	 * was most of our garbage during ingest. The parser keeps state while
+	 * parsing a line so it can't be shared between threads, but each thread can
+	 * safely reuse its own.
+	 */
+	private static final ThreadLocal<CSVParser> CSV_PARSER = 
+			ThreadLocal.withInitial(CSVParser::new);
+	
+	private final Set<GoodReadsColumn> projection;
+	private final Set<GoodReadsColumn> lazyColumns;
+	private final GoodReadsDateDecoder dateDecoder = new GoodReadsDateDecoder();
+	private final ParseSummary summary = new ParseSummary();
+	private final ContributorNameCache contributorNames = new ContributorNameCache();
+	private final ShelfDictionary shelfDictionary = new ShelfDictionary();
+	private volatile ColumnPlan plan;
+	
+	/**
+	 * Parse every column of the export
+	 */
+	public GoodReadsParsingService() {
+		this(EnumSet.allOf(GoodReadsColumn.class));
+	}
+	
+	/**
+	 * Only parse the given columns, the rest are left unset on the {@link Book}.
+	 * ie {@link GoodReadsColumn#REPORT_COLUMNS}
+	 * 
+	 * @param projection
+	 */
+	public GoodReadsParsingService(final Set<GoodReadsColumn> projection) {
+		this(projection, EnumSet.noneOf(GoodReadsColumn.class));
+	}
+	
+	/**
+	 * Parse the projected columns up front and keep the raw values of the lazy
+	 * columns, which are only converted if they're used. Any other columns are
+	 * left unset. The {@link Book}s created are {@link LazyBook}s.
+	 * 
+	 * @param projection the columns to parse immediately
+	 * @param lazyColumns the columns to parse on first use
+	 */
+	public GoodReadsParsingService(final Set<GoodReadsColumn> projection,
+			final Set<GoodReadsColumn> lazyColumns) {
+		super();
+		this.lazyColumns = EnumSet.noneOf(GoodReadsColumn.class);
+		this.lazyColumns.addAll(lazyColumns);
+		this.lazyColumns.removeAll(projection);
+		
+		this.projection = EnumSet.noneOf(GoodReadsColumn.class);
+		this.projection.addAll(projection);
+		this.projection.addAll(this.lazyColumns);
+		
+		// until we see a header assume the columns are in the usual order
+		this.plan = ColumnPlan.withoutHeader(this.projection);
+	}
+	
+	/**
+	 * Compile the column plan from the export's header row. This should be done
+	 * before parsing any of the records.
+	 * 
+	 * @param header the first record of the export
+	 * @return true if the record was a header, if not it should be parsed as a book
+	 */
+	public boolean readHeader(final String header){
+		boolean isHeader = false;
+		
+		try {
+			isHeader = readHeader(CSV_PARSER.get().parseLine(header));
+		} catch (IOException e) {
+			logger.error("Problem parsing header", e);
+		}
+		
+		return isHeader;
+	}
+	
+	/**
+	 * Compile the column plan from the export's header row, already split into
+	 * fields.
+	 * 
+	 * @param headers
+	 * @return true if the record was a header, if not it should be parsed as a book
+	 */
+	public boolean readHeader(final String[] headers){
+		boolean isHeader = false;
+		
+		if((headers != null) && (headers.length > 0)){
+			// Goodreads starts the file with a byte order mark
+			String[] names = headers.clone();
+			if(names[0].startsWith(BYTE_ORDER_MARK)){
+				names[0] = names[0].substring(BYTE_ORDER_MARK.length());
+			}
+			
+			final ColumnPlan headerPlan = ColumnPlan.fromHeader(names, projection);
+			if(headerPlan != null){
+				plan = headerPlan;
+				isHeader = true;
+			}
+		}
+		
+		return isHeader;
+	}
+	
+	/**
+	 * The plan used to find the columns in each record
+	 * @return
+	 */
+	public ColumnPlan getColumnPlan() {
+		return plan;
+	}
+	
+	/**
+	 * The problems found in the records parsed so far
+	 * @return
+	 */
+	public ParseSummary getParseSummary() {
+		return summary;
+	}
+	
+	/**
+	 * The shelves seen in the records parsed so far, every book parsed by
+	 * this service keeps its shelves as ids from it
+	 * @return
+	 */
+	public ShelfDictionary getShelfDictionary() {
+		return shelfDictionary;
+	}
 
 	public Book parse(String input) {
 		logger.debug("Parsing: {}", input);
 		// TODO null check input
 		
-		Book book = new Book();
+		Book book = null;
+		try {
+			book = parseTokens(CSV_PARSER.get().parseLine(input));
+		} catch (IOException e) {
+			logger.error("Problem parsing data", e);
+			book = new Book();
+		}
+		
+		return book;
+	}
+	
+	/**
+	 * Build a {@link ParsingService} for records that have already been split
+	 * into fields.
+	 * 
+	 * @return
+	 */
+	public ParsingService<String[], Book> asTokenParser(){
+		return this::parseTokens;
+	}
+	
+	/**
+	 * Build a {@link ParsingService} for the records of a
+	 * {@link noorg.bookparsing.io.MappedCsvRecordReader}.
+	 * 
+	 * @return
+	 */
+	public ParsingService<CsvRecord, Book> asRecordParser(){
+		return this::parseRecord;
+	}
+	
+	/**
+	 * Convert the fields of a single record into a {@link Book}
+	 * 
+	 * @param tokens
+	 * @return
+	 */
+	public Book parseTokens(final String[] tokens) {
+		final ColumnPlan columnPlan = plan;
+		final Book book = newBook();
+		
+		summary.recordParsed();
+		if(tokens.length != columnPlan.getColumnCount()){
+			badRecord(tokens, columnPlan);
+		}
+		
+		// convert the CSV
+		for(GoodReadsColumn column: columnPlan.getProjection()){
+			final String value = columnPlan.get(tokens, column);
+			
+			if(lazyColumns.contains(column)){
+				((LazyBook)book).defer(column, value);
+			}else{
+				setColumn(book, column, value);
+			}
+		}
+		
+		return finishBook(book);
+	}
+	
+	/**
+	 * Convert a record from a {@link noorg.bookparsing.io.MappedCsvRecordReader}
+	 * into a {@link Book}. Numbers and dates are decoded straight from the
+	 * record's bytes, only the text columns become strings.
+	 * 
+	 * @param record
+	 * @return
+	 */
+	public Book parseRecord(final CsvRecord record) {
+		final ColumnPlan columnPlan = plan;
+		final Book book = newBook();
+		
+		summary.recordParsed();
+		if(record.size() != columnPlan.getColumnCount()){
+			badRecord(record.toArray(), columnPlan);
+		}
+		
+		for(GoodReadsColumn column: columnPlan.getProjection()){
+			final int index = columnPlan.indexOf(column);
+			final boolean present = (index < record.size()) && record.isDecoded(index);
+			
+			if(lazyColumns.contains(column)){
+				((LazyBook)book).defer(column, present ? record.get(index) : null);
+			}else if(!present){
+				setColumn(book, column, null);
+			}else if(!decodeColumn(book, column, record, record.getStart(index),
+					record.getEnd(index))){
+				setColumn(book, column, record.get(index));
+			}
+		}
 		
-		/* 
-		 * Good reads data..
+		return finishBook(book);
+	}
+	
+	/**
+	 * A new book to parse into, lazy if any of the columns are
+	 * @return
+	 */
+	private Book newBook(){
+		final Book book = lazyColumns.isEmpty() ? new Book() : new LazyBook(this);
+		book.setShelfDictionary(shelfDictionary);
+		
+		return book;
+	}
+	
+	/**
+	 * Count and log a record that doesn't have the expected number of columns
+	 * @param tokens
+	 * @param columnPlan
+	 */
+	private void badRecord(final String[] tokens, final ColumnPlan columnPlan){
+		summary.recordBadRecord();
+		logger.error("{} produced {} tokens, expected {}", 
+				(tokens.length == 0) ? null : tokens[0], tokens.length,
+				columnPlan.getColumnCount());
+		logger.debug("{}", (Object[])tokens);
+	}
+	
+	/**
+	 * Work out the fields that come from more than one column
+	 * @param book
+	 * @return the book
+	 */
+	private Book finishBook(final Book book){
+		// Determine the format from the binding
+		final BookFormat format = BookFormat.parse(book.getBinding());
+		if(BookFormat.UNKNOWN.equals(format)){
+			logger.debug("{} has unknown format from binding: {}",
+					book.getTitle(), book.getBinding());
+		}
+		book.setFormat(format);
+		
+		// validate audio book duration
+		/* TODO Look into how we handle rereads done in audio. I prefer
+		 * to shelve only 1 copy of a book, so when I do a reread
+		 * in audio, the page count might be for the text and not the number
+		 * of hours, which will mess up the numbers.
 		 * 
-		 * 0 Book Id	
-		 * 1 Title
-		 * 2 Author
-		 * 3 Author l-f
-		 * 4 Additional Authors
-		 * 5 ISBN
-		 * 6 ISBN13
-		 * 7 My Rating
-		 * 8 Average Rating
-		 * 9 Publisher
-		 * 10 Binding	(use to get book format)
-		 * 11 Number of Pages
-		 * 12 Year Published
-		 * 13 Original Publication Year
-		 * 14 Date Read
-		 * 15 Date Added
-		 * 16 Bookshelves with positions
-		 * 17 Bookshelves	(use to get genre)
-		 * 18 Exclusive Shelf	(use to get Read State)
-		 * 19 My Review
-		 * 20 Spoiler
-		 * 21 Private Notes
-		 * 22 Read Count
-		 * 23 Recommended For
-		 * 24 Recommended By
-		 * 25 Owned Copies
-		 * 26 Original Purchase Date
-		 * 27 Original Purchase Location
-		 * 28 Condition
-		 * 29 Condition Description
-		 * 30 BCID
+		 * Right now I'm not sure if those books are being counted as audio books or
+		 * not. I suspect they aren't being counted. If that's the case, nothing needs
+		 * to be done. Unfortunately there isn't a way to track both the page counts 
+		 * and the audio duration apart from adding a book twice (once for each format).
 		 * 
+		 * This may be necessary to get proper statistics on audio for a year. 
 		 */
-		CSVParser parser = new CSVParser();
-		try {
-			String[]  tokens = parser.parseLine(input);
-			
-			if(tokens.length != 31){
-				logger.error("{} produced {} tokens", input, tokens.length);
-				logger.debug("{}", (Object[])tokens);
+		if(BookFormat.AUDIO_BOOK.equals(book.getFormat())){
+			final Integer duration = book.getNumberOfPages();
+			if((duration!= null) && (duration > 60)){
+				// 60 hours is extremely long for an audio book warn about it. 
+				// Shogun proved 50 hours is feasible 
+				logger.warn("{} has duration of {} hours", book.getTitle(), duration);
 			}
-			
-			// convert the CSV
-			book.setId(tokens[0]);
+		}
+		
+		// TODO read state..
+		
+		return book;
+	}
+	
+	/**
+	 * Convert a single column's value onto the book
+	 * 
+	 * @param book
+	 * @param column
+	 * @param value the raw value from the CSV, null if the column is missing
+	 */
+	protected void setColumn(final Book book, final GoodReadsColumn column, 
+			final String value){
+		// numbers and dates are decoded the same way as a record's bytes
+		if(decodeColumn(book, column, value, 0, (value == null) ? 0 : value.length())){
+			return;
+		}
+		
+		switch(column){
+		case BOOK_ID:
+			book.setId(value);
+			break;
+		case TITLE:
 			// TODO tokenize title further for series information?
-			book.setTitle(tokens[1]);
-			book.setAuthor(getContributor(tokens[2], ContributorRole.AUTHOR));
-			// Skip 4th token (reverse author name)
-			book.setAdditionalContributors(parseAdditionalContributors(tokens[4]));
-			book.setIsbn(parseISBN(tokens[5]));
-			book.setIsbn13(parseISBN(tokens[6]));
-			book.setMyRating(parseInt(tokens[7]));
-			book.setAverageRating(parseFloat(tokens[8]));
-			book.setPublisher(tokens[9]);
-			book.setBinding(tokens[10]);
-			book.setNumberOfPages(parseInt(tokens[11]));
-			book.setYearOfPublication(parseInt(tokens[12]));
-			book.setOriginalPublicationYear(parseInt(tokens[13]));
-			book.setDateRead(convertDate(tokens[14]));
-			book.setDateAdded(convertDate(tokens[15]));
-			book.setBookshelves(getList(tokens[16]));
+			book.setTitle(value);
+			break;
+		case AUTHOR:
+			book.setAuthor(getContributor(value, ContributorRole.AUTHOR));
+			break;
+		case AUTHOR_LAST_FIRST:
+			// Skip the reverse author name
+			break;
+		case ADDITIONAL_AUTHORS:
+			book.setAdditionalContributors(parseAdditionalContributors(value));
+			break;
+		case ISBN:
+			book.setIsbn(parseISBN(value));
+			break;
+		case ISBN13:
+			book.setIsbn13(parseISBN(value));
+			break;
+		case PUBLISHER:
+			book.setPublisher(value);
+			break;
+		case BINDING:
+			// use to get book format
+			book.setBinding(value);
+			break;
+		case BOOKSHELVES:
+			// use to get genre
+			book.setBookshelves(getList(value));
+			break;
+		case BOOKSHELVES_WITH_POSITIONS:
 			// TODO maybe use this list to rebuild shelves in order?
-			book.setBookshelvesWithPositions(getList(tokens[17]));
-			book.setExclusiveShelf(tokens[18]);
-			book.setMyReview(tokens[19]);
+			book.setBookshelvesWithPositions(getList(value));
+			break;
+		case EXCLUSIVE_SHELF:
+			// use to get Read State
+			book.setExclusiveShelf(value);
+			break;
+		case MY_REVIEW:
+			book.setMyReview(value);
+			break;
+		case SPOILER:
 			// TODO Not sure what this column is/contains. Spoiler of what?
-			book.setSpoiler(tokens[20]);
-			book.setPrivateNotes(tokens[21]);
-			book.setReadCount(parseReadCount(tokens[22]));
-			book.setRecommendedFor(tokens[23]);
-			book.setRecommendedBy(tokens[24]);
-			book.setOwnedCopies(parseInt(tokens[25]));
-			book.setPurchaseDate(convertDate(tokens[26]));
-			book.setPurchaseLocation(tokens[27]);
-			book.setCondition(BookCondition.parse(tokens[28]));
-			book.setConditionDescription(tokens[29]);
-			book.setBcid(tokens[30]);
-			
-			// Determine the format from the binding
-			final BookFormat format = BookFormat.parse(book.getBinding());
-			if(BookFormat.UNKNOWN.equals(format)){
-				logger.debug("{} has unknown format from binding: {}",
-						book.getTitle(), book.getBinding());
+			book.setSpoiler(value);
+			break;
+		case PRIVATE_NOTES:
+			book.setPrivateNotes(value);
+			break;
+		case RECOMMENDED_FOR:
+			book.setRecommendedFor(value);
+			break;
+		case RECOMMENDED_BY:
+			book.setRecommendedBy(value);
+			break;
+		case ORIGINAL_PURCHASE_LOCATION:
+			book.setPurchaseLocation(value);
+			break;
+		case CONDITION:
+			book.setCondition(BookCondition.parse(value));
+			break;
+		case CONDITION_DESCRIPTION:
+			book.setConditionDescription(value);
+			break;
+		case BCID:
+			book.setBcid(value);
+			break;
+		default:
+			logger.warn("Unsupported column: {}", column);
+		}
+	}
+
+
+	/**
+	 * Convert a number or date column's value onto the book, straight from the
+	 * characters of the value. Other columns are left to
+	 * {@link #setColumn(Book, GoodReadsColumn, String)}.
+	 * 
+	 * @param book
+	 * @param column
+	 * @param value holds the raw value from the CSV, null if the column is missing
+	 * @param start inclusive
+	 * @param end exclusive
+	 * @return true if the column is a number or date
+	 */
+	private boolean decodeColumn(final Book book, final GoodReadsColumn column,
+			final CharSequence value, final int start, final int end){
+		long number;
+		float decimal;
+		boolean decoded = true;
+		switch(column){
+		case MY_RATING:
+			number = parseInt(value, start, end, column);
+			if(number != NumberDecoder.MALFORMED){
+				book.setMyRating((int)number);
 			}
-			book.setFormat(format);
-			
-			// validate audio book duration
-			/* TODO Look into how we handle rereads done in audio. I prefer
-			 * to shelve only 1 copy of a book, so when I do a reread
-			 * in audio, the page count might be for the text and not the number
-			 * of hours, which will mess up the numbers.
-			 * 
-			 * Right now I'm not sure if those books are being counted as audio books or
-			 * not. I suspect they aren't being counted. If that's the case, nothing needs
-			 * to be done. Unfortunately there isn't a way to track both the page counts 
-			 * and the audio duration apart from adding a book twice (once for each format).
-			 * 
-			 * This may be necessary to get proper statistics on audio for a year. 
-			 */
-			if(BookFormat.AUDIO_BOOK.equals(book.getFormat())){
-				final Integer duration = book.getNumberOfPages();
-				if((duration!= null) && (duration > 60)){
-					// 60 hours is extremely long for an audio book warn about it. 
-					// Shogun proved 50 hours is feasible 
-					logger.warn("{} has duration of {} hours", book.getTitle(), duration);
-				}
+			break;
+		case AVERAGE_RATING:
+			decimal = parseFloat(value, start, end, column);
+			if(!Float.isNaN(decimal)){
+				book.setAverageRating(decimal);
 			}
-			
-			// TODO read state..
-		} catch (IOException e) {
-			logger.error("Problem parsing data", e);
+			break;
+		case NUMBER_OF_PAGES:
+			number = parseInt(value, start, end, column);
+			if(number != NumberDecoder.MALFORMED){
+				book.setNumberOfPages((int)number);
+			}
+			break;
+		case YEAR_PUBLISHED:
+			number = parseInt(value, start, end, column);
+			if(number != NumberDecoder.MALFORMED){
+				book.setYearOfPublication((int)number);
+			}
+			break;
+		case ORIGINAL_PUBLICATION_YEAR:
+			number = parseInt(value, start, end, column);
+			if(number != NumberDecoder.MALFORMED){
+				book.setOriginalPublicationYear((int)number);
+			}
+			break;
+		case DATE_READ:
+			book.setDateRead(convertDate(value, start, end, column));
+			break;
+		case DATE_ADDED:
+			book.setDateAdded(convertDate(value, start, end, column));
+			break;
+		case READ_COUNT:
+			book.setReadCount(parseReadCount(value, start, end));
+			break;
+		case OWNED_COPIES:
+			number = parseInt(value, start, end, column);
+			if(number != NumberDecoder.MALFORMED){
+				book.setOwnedCopies((int)number);
+			}
+			break;
+		case ORIGINAL_PURCHASE_DATE:
+			book.setPurchaseDate(convertDate(value, start, end, column));
+			break;
+		default:
+			decoded = false;
 		}
 		
-		return book;
+		return decoded;
 	}
 
-
 	/**
-	 * Convert the date string to a {@link Calendar}
-	 * @param dateStr
+	 * Convert the date to a {@link LocalDate}
+	 * @param input
+	 * @param start inclusive
+	 * @param end exclusive
+	 * @param column the column being parsed, to count bad values against
 	 * @return
 	 */
-	private LocalDate convertDate(final String dateStr){
-		LocalDate date = null;
+	private LocalDate convertDate(final CharSequence input, final int start, final int end,
+			final GoodReadsColumn column){
+		final LocalDate date = dateDecoder.decode(input, start, end);
 		
-		if((dateStr != null) && (!"".equals(dateStr))){
-			
-			try{
-				date = LocalDate.parse(dateStr, GOODREADS_DATE_FORMAT);
-			}catch(Exception e){
-				logger.error("Unable to parse date: {}", dateStr, e);
-			}
+		if((date == null) && (start < end)){
+			summary.recordMalformed(column);
+			logger.debug("Unable to parse date: {}", input.subSequence(start, end));
 		}
 		
 		return date;
@@ -229,10 +556,12 @@ public class GoodReadsParsingService implements ParsingService<String, Book> {
 	 * Special Handling turning the read count into an integer.
 	 * 
 	 * TODO can the be pulled out into an enricher? It doesn't really belong here
-	 * @param readCountStr
+	 * @param input
+	 * @param start inclusive
+	 * @param end exclusive
 	 * @return
 	 */
-	private Integer parseReadCount(String readCountStr){
+	private int parseReadCount(final CharSequence input, final int start, final int end){
 		/* This handling basically covers my own personal case where I don't
 		 * remember the exact number of times I read a book and mark it as N+
 		 * to indicate I know I've read it at least N times, but may have read
@@ -242,18 +571,20 @@ public class GoodReadsParsingService implements ParsingService<String, Book> {
 		 * so the user can put in whatever they want.
 		 */
 		// default to zero
-		Integer readCount = 0;
+		int readCount = 0;
 		
-		if(readCountStr != null){
-			if(readCountStr.endsWith("+")){
-				readCountStr = readCountStr.substring(0,
-						readCountStr.length()-1);
+		if(start < end){
+			int countEnd = end;
+			if(input.charAt(end - 1) == '+'){
+				countEnd--;
 			}
 			
-			Integer parseCount = parseInt(readCountStr);
-			
-			if(parseCount != null){
-				readCount = parseCount;
+			final long parseCount = NumberDecoder.decodeInt(input, start, countEnd);
+			if(parseCount == NumberDecoder.MALFORMED){
+				summary.recordMalformed(GoodReadsColumn.READ_COUNT);
+				logger.debug("{} failed to parse as a read count", input.subSequence(start, end));
+			}else{
+				readCount = (int)parseCount;
 			}
 		}
 		
@@ -261,45 +592,55 @@ public class GoodReadsParsingService implements ParsingService<String, Book> {
 	}
 	
 	/**
-	 * Null safe integer parse. 
+	 * Null safe integer parse. Bad values are counted in the {@link ParseSummary}
+	 * rather than thrown.
 	 * 
-	 * TODO Is there a 3rd party utility that could be used instead? Guava perhaps?
 	 * @param input
-	 * @return
+	 * @param start inclusive
+	 * @param end exclusive
+	 * @param column the column being parsed, to count bad values against
+	 * @return the value, or {@link NumberDecoder#MALFORMED} if empty or malformed
 	 */
-	private Integer parseInt(final String input){
-		Integer intVal = null;
-		
-		if((input != null) && (!"".equals(input))){
-			try{
-				intVal = Integer.parseInt(input);
-			}catch(Exception e){
-				logger.error("{} failed to parse as Integer", input);
+	private long parseInt(final CharSequence input, final int start, final int end,
+			final GoodReadsColumn column){
+		long value = NumberDecoder.MALFORMED;
+		
+		if(start < end){
+			value = NumberDecoder.decodeInt(input, start, end);
+			
+			if(value == NumberDecoder.MALFORMED){
+				summary.recordMalformed(column);
+				logger.debug("{} failed to parse as Integer", input.subSequence(start, end));
 			}
 		}
 		
-		return intVal;
+		return value;
 	}
 	
 	/**
-	 * Null safe float parse. 
+	 * Null safe float parse. Bad values are counted in the {@link ParseSummary}
+	 * rather than thrown.
 	 * 
-	 * TODO Is there a 3rd party utility that could be used instead? Guava perhaps?
 	 * @param input
-	 * @return
+	 * @param start inclusive
+	 * @param end exclusive
+	 * @param column the column being parsed, to count bad values against
+	 * @return the value, or NaN if empty or malformed
 	 */
-	private Float parseFloat(final String input){
-		Float floatVal = null;
-		
-		if((input != null) && (!"".equals(input))){
-			try{
-				floatVal = Float.parseFloat(input);
-			}catch(Exception e){
-				logger.error("{} failed to parse as Float", input, e);
+	private float parseFloat(final CharSequence input, final int start, final int end,
+			final GoodReadsColumn column){
+		float value = Float.NaN;
+		
+		if(start < end){
+			value = NumberDecoder.decodeFloat(input, start, end);
+			
+			if(Float.isNaN(value)){
+				summary.recordMalformed(column);
+				logger.debug("{} failed to parse as Float", input.subSequence(start, end));
 			}
 		}
 		
-		return floatVal;
+		return value;
 	}
 	
 	/**
@@ -312,9 +653,8 @@ public class GoodReadsParsingService implements ParsingService<String, Book> {
 		
 		if(addContStr != null){
 			contributors = new ArrayList<Contributor>();
-			CSVParser parser = new CSVParser();
 			try {
-				String[]  tokens = parser.parseLine(addContStr);
+				String[]  tokens = CSV_PARSER.get().parseLine(addContStr);
 				for(String contributor: tokens){
 					/* TODO these are going to be artists, narrators, 
 					 * additional authors and possibly editors. I don't
@@ -338,9 +678,10 @@ public class GoodReadsParsingService implements ParsingService<String, Book> {
 	}
 	
 	/**
-	 * Parse the string into a {@link Contributor}
+	 * Get a {@link Contributor} for the string, the name is only parsed the
+	 * first time it's seen
 	 * @param contStr
-	 * @param
+	 * @param role
 	 * @return
 	 */
 	private Contributor getContributor(final String contStr, 
@@ -348,79 +689,88 @@ public class GoodReadsParsingService implements ParsingService<String, Book> {
 		Contributor author = null;
 		
 		if((contStr != null) && (!"".equals(contStr))){
-			String[] nameTokens = contStr.split(" ");
-			
-			String firstName = contStr;
-			String middleName = null;
-			String lastName = null;
-			
-			if(nameTokens.length == 2){
-				firstName = nameTokens[0];
-				lastName = nameTokens[1];
-			}else if(nameTokens.length == 3){
-				firstName = nameTokens[0];
-				middleName = nameTokens[1];
-				lastName = nameTokens[2];
-			}else{
-				logger.debug("Special handling of {} contributor tokens for string: {}", 
-						nameTokens.length, contStr);
-				/* TODO Can this be made less hacky? For now it kind of 
-				 * works. Some of these authors have extra spaces in the 
-				 * middle that cause the split to screw up. This is probably due 
-				 * to the way Goodreads handles multiple authors with the same name.
-				 * Each new author gets an extra space and it's really just guess and 
-				 * check at that point. 
-				 * 
-				 * I'm simply looking for how many tokens I have and guessing..
-				 */
-				List<String> foundTokens = new ArrayList<>();
-				for(String token: nameTokens){
-					if(token != null && !"".equals(token)){
-						foundTokens.add(token);
-					}
+			author = contributorNames.get(contStr, role, this::createContributor);
+		}else{
+			logger.error("Contributor String is null/empty");
+		}
+		
+		return author;
+	}
+	
+	/**
+	 * Parse the string into a {@link Contributor} holding just the name, the
+	 * {@link ContributorNameCache} gives each book its own copy with the role
+	 * @param contStr
+	 * @return
+	 */
+	private Contributor createContributor(final String contStr){
+		String[] nameTokens = contStr.split(" ");
+		
+		String firstName = contStr;
+		String middleName = null;
+		String lastName = null;
+		
+		if(nameTokens.length == 2){
+			firstName = nameTokens[0];
+			lastName = nameTokens[1];
+		}else if(nameTokens.length == 3){
+			firstName = nameTokens[0];
+			middleName = nameTokens[1];
+			lastName = nameTokens[2];
+		}else{
+			logger.debug("Special handling of {} contributor tokens for string: {}", 
+					nameTokens.length, contStr);
+			/* TODO Can this be made less hacky? For now it kind of 
+			 * works. Some of these authors have extra spaces in the 
+			 * middle that cause the split to screw up. This is probably due 
+			 * to the way Goodreads handles multiple authors with the same name.
+			 * Each new author gets an extra space and it's really just guess and 
+			 * check at that point. 
+			 * 
+			 * I'm simply looking for how many tokens I have and guessing..
+			 */
+			List<String> foundTokens = new ArrayList<>();
+			for(String token: nameTokens){
+				if(token != null && !"".equals(token)){
+					foundTokens.add(token);
 				}
+			}
+			
+			if(foundTokens.size() == 1){
+				firstName = foundTokens.get(0);
+			}else if(foundTokens.size() == 2){
+				firstName = foundTokens.get(0);
+				lastName = foundTokens.get(1);
+			}else if(foundTokens.size() == 3){
+				firstName = foundTokens.get(0);
+				middleName = foundTokens.get(1);
+				lastName = foundTokens.get(2);
+			}else if(foundTokens.size() > 3){
+				logger.debug("Found {} tokens: {}", foundTokens.size(), 
+						foundTokens);
 				
-				if(foundTokens.size() == 1){
-					firstName = foundTokens.get(0);
-				}else if(foundTokens.size() == 2){
-					firstName = foundTokens.get(0);
-					lastName = foundTokens.get(1);
-				}else if(foundTokens.size() == 3){
-					firstName = foundTokens.get(0);
-					middleName = foundTokens.get(1);
-					lastName = foundTokens.get(2);
-				}else if(foundTokens.size() > 3){
-					logger.debug("Found {} tokens: {}", foundTokens.size(), 
-							foundTokens);
-					
-					firstName = foundTokens.get(0);
-					middleName = foundTokens.get(1);
+				firstName = foundTokens.get(0);
+				middleName = foundTokens.get(1);
+				
+				/* assume the remaining tokens are part of the last name?
+				 * ie "Le Guin"
+				 * TODO Better way to handle this?
+				 */
+				StringBuilder sb = new StringBuilder();
+				for(int i = 2;i<foundTokens.size();i++){
+					sb.append(foundTokens.get(i));
 					
-					/* assume the remaining tokens are part of the last name?
-					 * ie "Le Guin"
-					 * TODO Better way to handle this?
-					 */
-					StringBuilder sb = new StringBuilder();
-					for(int i = 2;i<foundTokens.size();i++){
-						sb.append(foundTokens.get(i));
-						
-						if(i+1<foundTokens.size()){
-							// restore the space
-							sb.append(" ");
-						}
+					if(i+1<foundTokens.size()){
+						// restore the space
+						sb.append(" ");
 					}
-					
-					lastName = sb.toString();
 				}
+				
+				lastName = sb.toString();
 			}
-			
-			author = new Contributor(firstName, middleName, lastName,
-					ContributorRole.AUTHOR);
-		}else{
-			logger.error("Contributor String is null/empty");
 		}
 		
-		return author;
+		return new Contributor(firstName, middleName, lastName, null);
 	}
 	
 	/**
@@ -433,9 +783,8 @@ public class GoodReadsParsingService implements ParsingService<String, Book> {
 		
 		if(tokenizedList != null){
 			list = new ArrayList<String>();
-			CSVParser parser = new CSVParser();
 			try {
-				String[]  tokens = parser.parseLine(tokenizedList);
+				String[]  tokens = CSV_PARSER.get().parseLine(tokenizedList);
 				for(String contributor: tokens){
 					list.add(contributor.trim());
 				}
@@ -0,0 +1,476 @@
+package noorg.bookparsing.service.impl;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.Contributor;
+import noorg.bookparsing.domain.types.BookCondition;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>A {@link Book} that keeps the raw CSV value of some of its columns and only
+ * converts them the first time they're asked for. Once a column has been
+ * converted, or set, the raw value is dropped.
+ *
+ * <p>Created by a {@link GoodReadsParsingService} with lazy columns.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class LazyBook extends Book {
+	private static final int COLUMN_COUNT = GoodReadsColumn.values().length;
+
+	private final GoodReadsParsingService parser;
+
+	/**
+	 * Raw values still waiting to be converted, by column ordinal. Null once
+	 * nothing is pending.
+	 */
+	private String[] pending;
+
+	LazyBook(final GoodReadsParsingService parser) {
+		super();
+		this.parser = parser;
+	}
+
+	/**
+	 * Hold on to a column's raw value until it is needed
+	 *
+	 * @param column
+	 * @param value
+	 */
+	synchronized void defer(final GoodReadsColumn column, final String value){
+		if(value != null){
+			if(pending == null){
+				pending = new String[COLUMN_COUNT];
+			}
+			pending[column.ordinal()] = value;
+		}
+	}
+
+	/**
+	 * Is the column still waiting to be converted
+	 * @param column
+	 * @return
+	 */
+	public synchronized boolean isPending(final GoodReadsColumn column){
+		return (pending != null) && (pending[column.ordinal()] != null);
+	}
+
+	/**
+	 * Convert the column if it hasn't been already
+	 * @param column
+	 */
+	private synchronized void load(final GoodReadsColumn column){
+		if(pending != null){
+			final String value = pending[column.ordinal()];
+
+			if(value != null){
+				pending[column.ordinal()] = null;
+				parser.setColumn(this, column, value);
+			}
+		}
+	}
+
+	/**
+	 * Drop the raw value of a column, it is being set directly
+	 * @param column
+	 */
+	private synchronized void discard(final GoodReadsColumn column){
+		if(pending != null){
+			pending[column.ordinal()] = null;
+		}
+	}
+
+	@Override
+	public String getId() {
+		load(GoodReadsColumn.BOOK_ID);
+		return super.getId();
+	}
+
+	@Override
+	public void setId(String id) {
+		discard(GoodReadsColumn.BOOK_ID);
+		super.setId(id);
+	}
+
+	@Override
+	public String getTitle() {
+		load(GoodReadsColumn.TITLE);
+		return super.getTitle();
+	}
+
+	@Override
+	public void setTitle(String title) {
+		discard(GoodReadsColumn.TITLE);
+		super.setTitle(title);
+	}
+
+	@Override
+	public Contributor getAuthor() {
+		load(GoodReadsColumn.AUTHOR);
+		return super.getAuthor();
+	}
+
+	@Override
+	public void setAuthor(Contributor author) {
+		discard(GoodReadsColumn.AUTHOR);
+		super.setAuthor(author);
+	}
+
+	@Override
+	public List<Contributor> getAdditionalContributors() {
+		load(GoodReadsColumn.ADDITIONAL_AUTHORS);
+		return super.getAdditionalContributors();
+	}
+
+	@Override
+	public void setAdditionalContributors(List<Contributor> additionalContributors) {
+		discard(GoodReadsColumn.ADDITIONAL_AUTHORS);
+		super.setAdditionalContributors(additionalContributors);
+	}
+
+	@Override
+	public String getIsbn() {
+		load(GoodReadsColumn.ISBN);
+		return super.getIsbn();
+	}
+
+	@Override
+	public void setIsbn(String isbn) {
+		discard(GoodReadsColumn.ISBN);
+		super.setIsbn(isbn);
+	}
+
+	@Override
+	public String getIsbn13() {
+		load(GoodReadsColumn.ISBN13);
+		return super.getIsbn13();
+	}
+
+	@Override
+	public void setIsbn13(String isbn13) {
+		discard(GoodReadsColumn.ISBN13);
+		super.setIsbn13(isbn13);
+	}
+
+	@Override
+	public Integer getMyRating() {
+		load(GoodReadsColumn.MY_RATING);
+		return super.getMyRating();
+	}
+
+	@Override
+	public void setMyRating(Integer myRating) {
+		discard(GoodReadsColumn.MY_RATING);
+		super.setMyRating(myRating);
+	}
+
+	@Override
+	public Float getAverageRating() {
+		load(GoodReadsColumn.AVERAGE_RATING);
+		return super.getAverageRating();
+	}
+
+	@Override
+	public void setAverageRating(Float averageRating) {
+		discard(GoodReadsColumn.AVERAGE_RATING);
+		super.setAverageRating(averageRating);
+	}
+
+	@Override
+	public String getPublisher() {
+		load(GoodReadsColumn.PUBLISHER);
+		return super.getPublisher();
+	}
+
+	@Override
+	public void setPublisher(String publisher) {
+		discard(GoodReadsColumn.PUBLISHER);
+		super.setPublisher(publisher);
+	}
+
+	@Override
+	public String getBinding() {
+		load(GoodReadsColumn.BINDING);
+		return super.getBinding();
+	}
+
+	@Override
+	public void setBinding(String binding) {
+		discard(GoodReadsColumn.BINDING);
+		super.setBinding(binding);
+	}
+
+	@Override
+	public Integer getNumberOfPages() {
+		load(GoodReadsColumn.NUMBER_OF_PAGES);
+		return super.getNumberOfPages();
+	}
+
+	@Override
+	public void setNumberOfPages(Integer numberOfPages) {
+		discard(GoodReadsColumn.NUMBER_OF_PAGES);
+		super.setNumberOfPages(numberOfPages);
+	}
+
+	@Override
+	public Integer getYearOfPublication() {
+		load(GoodReadsColumn.YEAR_PUBLISHED);
+		return super.getYearOfPublication();
+	}
+
+	@Override
+	public void setYearOfPublication(Integer yearOfPublication) {
+		discard(GoodReadsColumn.YEAR_PUBLISHED);
+		super.setYearOfPublication(yearOfPublication);
+	}
+
+	@Override
+	public Integer getOriginalPublicationYear() {
+		load(GoodReadsColumn.ORIGINAL_PUBLICATION_YEAR);
+		return super.getOriginalPublicationYear();
+	}
+
+	@Override
+	public void setOriginalPublicationYear(Integer originalPublicationYear) {
+		discard(GoodReadsColumn.ORIGINAL_PUBLICATION_YEAR);
+		super.setOriginalPublicationYear(originalPublicationYear);
+	}
+
+	@Override
+	public LocalDate getDateRead() {
+		load(GoodReadsColumn.DATE_READ);
+		return super.getDateRead();
+	}
+
+	@Override
+	public void setDateRead(LocalDate dateRead) {
+		discard(GoodReadsColumn.DATE_READ);
+		super.setDateRead(dateRead);
+	}
+
+	@Override
+	public LocalDate getDateAdded() {
+		load(GoodReadsColumn.DATE_ADDED);
+		return super.getDateAdded();
+	}
+
+	@Override
+	public void setDateAdded(LocalDate dateAdded) {
+		discard(GoodReadsColumn.DATE_ADDED);
+		super.setDateAdded(dateAdded);
+	}
+
+	@Override
+	public List<String> getBookshelves() {
+		load(GoodReadsColumn.BOOKSHELVES);
+		return super.getBookshelves();
+	}
+
+	@Override
+	public void setBookshelves(List<String> bookshelves) {
+		discard(GoodReadsColumn.BOOKSHELVES);
+		super.setBookshelves(bookshelves);
+	}
+
+	@Override
+	public boolean hasShelf(int shelfId) {
+		load(GoodReadsColumn.BOOKSHELVES);
+		return super.hasShelf(shelfId);
+	}
+
+	@Override
+	public int getShelfCount() {
+		load(GoodReadsColumn.BOOKSHELVES);
+		return super.getShelfCount();
+	}
+
+	@Override
+	public int nextShelfId(int fromId) {
+		load(GoodReadsColumn.BOOKSHELVES);
+		return super.nextShelfId(fromId);
+	}
+
+	@Override
+	public List<String> getBookshelvesWithPositions() {
+		load(GoodReadsColumn.BOOKSHELVES_WITH_POSITIONS);
+		return super.getBookshelvesWithPositions();
+	}
+
+	@Override
+	public void setBookshelvesWithPositions(List<String> bookshelvesWithPositions) {
+		discard(GoodReadsColumn.BOOKSHELVES_WITH_POSITIONS);
+		super.setBookshelvesWithPositions(bookshelvesWithPositions);
+	}
+
+	@Override
+	public String getExclusiveShelf() {
+		load(GoodReadsColumn.EXCLUSIVE_SHELF);
+		return super.getExclusiveShelf();
+	}
+
+	@Override
+	public void setExclusiveShelf(String exclusiveShelf) {
+		discard(GoodReadsColumn.EXCLUSIVE_SHELF);
+		super.setExclusiveShelf(exclusiveShelf);
+	}
+
+	@Override
+	public String getMyReview() {
+		load(GoodReadsColumn.MY_REVIEW);
+		return super.getMyReview();
+	}
+
+	@Override
+	public void setMyReview(String myReview) {
+		discard(GoodReadsColumn.MY_REVIEW);
+		super.setMyReview(myReview);
+	}
+
+	@Override
+	public String getSpoiler() {
+		load(GoodReadsColumn.SPOILER);
+		return super.getSpoiler();
+	}
+
+	@Override
+	public void setSpoiler(String spoiler) {
+		discard(GoodReadsColumn.SPOILER);
+		super.setSpoiler(spoiler);
+	}
+
+	@Override
+	public String getPrivateNotes() {
+		load(GoodReadsColumn.PRIVATE_NOTES);
+		return super.getPrivateNotes();
+	}
+
+	@Override
+	public void setPrivateNotes(String privateNotes) {
+		discard(GoodReadsColumn.PRIVATE_NOTES);
+		super.setPrivateNotes(privateNotes);
+	}
+
+	@Override
+	public Integer getReadCount() {
+		load(GoodReadsColumn.READ_COUNT);
+		return super.getReadCount();
+	}
+
+	@Override
+	public void setReadCount(Integer readCount) {
+		discard(GoodReadsColumn.READ_COUNT);
+		super.setReadCount(readCount);
+	}
+
+	@Override
+	public String getRecommendedFor() {
+		load(GoodReadsColumn.RECOMMENDED_FOR);
+		return super.getRecommendedFor();
+	}
+
+	@Override
+	public void setRecommendedFor(String recommendedFor) {
+		discard(GoodReadsColumn.RECOMMENDED_FOR);
+		super.setRecommendedFor(recommendedFor);
+	}
+
+	@Override
+	public String getRecommendedBy() {
+		load(GoodReadsColumn.RECOMMENDED_BY);
+		return super.getRecommendedBy();
+	}
+
+	@Override
+	public void setRecommendedBy(String recommendedBy) {
+		discard(GoodReadsColumn.RECOMMENDED_BY);
+		super.setRecommendedBy(recommendedBy);
+	}
+
+	@Override
+	public Integer getOwnedCopies() {
+		load(GoodReadsColumn.OWNED_COPIES);
+		return super.getOwnedCopies();
+	}
+
+	@Override
+	public void setOwnedCopies(Integer ownedCopies) {
+		discard(GoodReadsColumn.OWNED_COPIES);
+		super.setOwnedCopies(ownedCopies);
+	}
+
+	@Override
+	public LocalDate getPurchaseDate() {
+		load(GoodReadsColumn.ORIGINAL_PURCHASE_DATE);
+		return super.getPurchaseDate();
+	}
+
+	@Override
+	public void setPurchaseDate(LocalDate purchaseDate) {
+		discard(GoodReadsColumn.ORIGINAL_PURCHASE_DATE);
+		super.setPurchaseDate(purchaseDate);
+	}
+
+	@Override
+	public String getPurchaseLocation() {
+		load(GoodReadsColumn.ORIGINAL_PURCHASE_LOCATION);
+		return super.getPurchaseLocation();
+	}
+
+	@Override
+	public void setPurchaseLocation(String purchaseLocation) {
+		discard(GoodReadsColumn.ORIGINAL_PURCHASE_LOCATION);
+		super.setPurchaseLocation(purchaseLocation);
+	}
+
+	@Override
+	public BookCondition getCondition() {
+		load(GoodReadsColumn.CONDITION);
+		return super.getCondition();
+	}
+
+	@Override
+	public void setCondition(BookCondition condition) {
+		discard(GoodReadsColumn.CONDITION);
+		super.setCondition(condition);
+	}
+
+	@Override
+	public String getConditionDescription() {
+		load(GoodReadsColumn.CONDITION_DESCRIPTION);
+		return super.getConditionDescription();
+	}
+
+	@Override
+	public void setConditionDescription(String conditionDescription) {
+		discard(GoodReadsColumn.CONDITION_DESCRIPTION);
+		super.setConditionDescription(conditionDescription);
+	}
+
+	@Override
+	public String getBcid() {
+		load(GoodReadsColumn.BCID);
+		return super.getBcid();
+	}
+
+	@Override
+	public void setBcid(String bcid) {
+		discard(GoodReadsColumn.BCID);
+		super.setBcid(bcid);
+	}
+}
@@ -0,0 +1,155 @@
+package noorg.bookparsing.service.impl;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Number parsing that reports bad input with a return value instead of an
+ * exception. Filling in the stack trace of a {@link NumberFormatException} for
+ * every bad cell of a malformed export was far more expensive than the parse.
+ *
+ * @author Robert J. Zak
+ *
+ */
+final class NumberDecoder {
+	/**
+	 * Returned when the input isn't a valid number
+	 */
+	static final long MALFORMED = Long.MIN_VALUE;
+
+	/**
+	 * Every int up to this is exactly a float
+	 */
+	private static final int MAX_EXACT_MANTISSA = 1 << 24;
+
+	/**
+	 * The powers of ten that are exactly floats
+	 */
+	private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f,
+			1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+	private NumberDecoder() {
+		super();
+	}
+
+	/**
+	 * Decode an optionally signed decimal integer
+	 *
+	 * @param input
+	 * @param start inclusive
+	 * @param end exclusive
+	 * @return the value, or {@link #MALFORMED} if it isn't an integer or doesn't
+	 * fit in an int
+	 */
+	static long decodeInt(final CharSequence input, final int start, final int end){
+		int i = start;
+		boolean negative = false;
+		if((i < end) && ((input.charAt(i) == '-') || (input.charAt(i) == '+'))){
+			negative = input.charAt(i) == '-';
+			i++;
+		}
+
+		if(i == end){
+			return MALFORMED;
+		}
+
+		long value = 0;
+		for(;i<end;i++){
+			final char c = input.charAt(i);
+			if((c < '0') || (c > '9')){
+				return MALFORMED;
+			}
+
+			value = (value * 10) + (c - '0');
+			if(value > ((long)Integer.MAX_VALUE + 1)){
+				return MALFORMED;
+			}
+		}
+
+		if(negative){
+			value = -value;
+		}
+
+		if(value > Integer.MAX_VALUE){
+			return MALFORMED;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Decode a plain decimal number, ie 4.12, -3 or .5. Exponents,
+	 * hexadecimal and the special values {@link Float#parseFloat(String)} would
+	 * accept are not.
+	 *
+	 * <p>The result is rounded exactly as {@link Float#parseFloat(String)}
+	 * would. Up to 7 digits with at most 10 after the point are worked out
+	 * with a single float division, which is correctly rounded because both
+	 * sides are exact. Anything longer, which the export never has, is handed
+	 * to {@link Float#parseFloat(String)} once it's known to be valid.
+	 *
+	 * @param input
+	 * @param start inclusive
+	 * @param end exclusive
+	 * @return the value, or NaN if it isn't a decimal number
+	 */
+	static float decodeFloat(final CharSequence input, final int start, final int end){
+		int i = start;
+		boolean negative = false;
+		if((i < end) && ((input.charAt(i) == '-') || (input.charAt(i) == '+'))){
+			negative = input.charAt(i) == '-';
+			i++;
+		}
+
+		boolean digits = false;
+		boolean point = false;
+		boolean exact = true;
+		int mantissa = 0;
+		int scale = 0;
+		for(;i<end;i++){
+			final char c = input.charAt(i);
+
+			if((c >= '0') && (c <= '9')){
+				digits = true;
+				if(exact){
+					mantissa = (mantissa * 10) + (c - '0');
+					if(point){
+						scale++;
+					}
+					exact = (mantissa <= MAX_EXACT_MANTISSA) && (scale < FLOAT_POWERS_OF_TEN.length);
+				}
+			}else if((c == '.') && !point){
+				point = true;
+			}else{
+				return Float.NaN;
+			}
+		}
+
+		if(!digits){
+			return Float.NaN;
+		}
+
+		float value;
+		if(exact){
+			value = mantissa / FLOAT_POWERS_OF_TEN[scale];
+			if(negative){
+				value = -value;
+			}
+		}else{
+			value = Float.parseFloat(input.subSequence(start, end).toString());
+		}
+
+		return value;
+	}
+}
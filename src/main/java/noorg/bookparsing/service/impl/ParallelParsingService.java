@@ -0,0 +1,162 @@
+package noorg.bookparsing.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.service.ParsingService;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Wraps another {@link ParsingService} to parse large inputs on several cores.
+ * The inputs are gathered into chunks as they are read and each chunk is parsed
+ * on a {@link ForkJoinPool} while the next one is being read. The results are
+ * put back together in the original order.
+ *
+ * <p>The inputs need to be whole records, ie from a
+ * {@link noorg.bookparsing.io.CsvRecordReader}, so a chunk never splits a
+ * quoted newline. The wrapped service must be safe to call from multiple
+ * threads, which {@link GoodReadsParsingService} is.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class ParallelParsingService<INPUT, OUTPUT extends Book> implements
+		ParsingService<INPUT, OUTPUT>, AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(
+			ParallelParsingService.class);
+
+	/**
+	 * Default number of records given to a single task
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 512;
+
+	private final ParsingService<INPUT, OUTPUT> delegate;
+	private final ForkJoinPool pool;
+	private final int chunkSize;
+	private final boolean ownsPool;
+
+	/**
+	 * Parse using one thread per available processor
+	 * @param delegate
+	 */
+	public ParallelParsingService(final ParsingService<INPUT, OUTPUT> delegate) {
+		this(delegate, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Parse on a new pool with the given parallelism. The pool is shut down when
+	 * this service is closed.
+	 *
+	 * @param delegate
+	 * @param parallelism
+	 */
+	public ParallelParsingService(final ParsingService<INPUT, OUTPUT> delegate,
+			final int parallelism) {
+		this(delegate, new ForkJoinPool(parallelism), DEFAULT_CHUNK_SIZE, true);
+	}
+
+	/**
+	 * Parse on an existing pool, ie one shared by several jobs. The pool is left
+	 * running when this service is closed.
+	 *
+	 * @param delegate
+	 * @param pool
+	 * @param chunkSize
+	 */
+	public ParallelParsingService(final ParsingService<INPUT, OUTPUT> delegate,
+			final ForkJoinPool pool, final int chunkSize) {
+		this(delegate, pool, chunkSize, false);
+	}
+
+	private ParallelParsingService(final ParsingService<INPUT, OUTPUT> delegate,
+			final ForkJoinPool pool, final int chunkSize, final boolean ownsPool) {
+		super();
+		if(chunkSize < 1){
+			throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+		}
+		this.delegate = delegate;
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+		this.ownsPool = ownsPool;
+	}
+
+	@Override
+	public OUTPUT parse(final INPUT input) {
+		return delegate.parse(input);
+	}
+
+	@Override
+	public List<OUTPUT> parseAll(final Iterable<INPUT> inputs) {
+		List<ForkJoinTask<List<OUTPUT>>> tasks = new ArrayList<>();
+
+		if(inputs != null){
+			List<INPUT> chunk = new ArrayList<>(chunkSize);
+			for(INPUT input: inputs){
+				chunk.add(input);
+
+				if(chunk.size() == chunkSize){
+					tasks.add(submit(chunk));
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+
+			if(!chunk.isEmpty()){
+				tasks.add(submit(chunk));
+			}
+		}
+
+		logger.debug("Parsing {} chunks with parallelism {}", tasks.size(),
+				pool.getParallelism());
+
+		// join in submission order to keep the books in input order
+		List<OUTPUT> outputs = new ArrayList<>();
+		for(ForkJoinTask<List<OUTPUT>> task: tasks){
+			outputs.addAll(task.join());
+		}
+
+		return outputs;
+	}
+
+	/**
+	 * The number of threads used to parse
+	 * @return
+	 */
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	@Override
+	public void close() {
+		if(ownsPool){
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Helper to hand a chunk of inputs to the pool
+	 * @param chunk
+	 * @return
+	 */
+	private ForkJoinTask<List<OUTPUT>> submit(final List<INPUT> chunk){
+		return pool.submit(() -> delegate.parseAll(chunk));
+	}
+}
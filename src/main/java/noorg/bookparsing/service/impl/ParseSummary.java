@@ -0,0 +1,148 @@
+package noorg.bookparsing.service.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Counts the problems found while parsing an export, so a badly formed file
+ * produces one summary instead of a log line for every bad value. Safe to
+ * update from multiple threads.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class ParseSummary {
+	private static final GoodReadsColumn[] COLUMNS = GoodReadsColumn.values();
+
+	private final LongAdder records = new LongAdder();
+	private final LongAdder badRecords = new LongAdder();
+	private final LongAdder skippedRecords = new LongAdder();
+	private final LongAdder[] malformed = new LongAdder[COLUMNS.length];
+
+	public ParseSummary() {
+		super();
+		for(int i=0;i<malformed.length;i++){
+			malformed[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Count a parsed record
+	 */
+	public void recordParsed(){
+		records.increment();
+	}
+
+	/**
+	 * Count a record that didn't have the expected number of columns
+	 */
+	public void recordBadRecord(){
+		badRecords.increment();
+	}
+
+	/**
+	 * Count records that were skipped without being parsed, ie too long to read
+	 * @param count
+	 */
+	public void recordSkipped(final long count){
+		skippedRecords.add(count);
+	}
+
+	/**
+	 * Count a value that couldn't be converted
+	 * @param column
+	 */
+	public void recordMalformed(final GoodReadsColumn column){
+		malformed[column.ordinal()].increment();
+	}
+
+	/**
+	 * The number of records parsed
+	 * @return
+	 */
+	public long getRecordCount(){
+		return records.sum();
+	}
+
+	/**
+	 * The number of records that didn't have the expected number of columns
+	 * @return
+	 */
+	public long getBadRecordCount(){
+		return badRecords.sum();
+	}
+
+	/**
+	 * The number of records that were skipped without being parsed
+	 * @return
+	 */
+	public long getSkippedRecordCount(){
+		return skippedRecords.sum();
+	}
+
+	/**
+	 * The number of values in the column that couldn't be converted
+	 * @param column
+	 * @return
+	 */
+	public long getMalformedCount(final GoodReadsColumn column){
+		return malformed[column.ordinal()].sum();
+	}
+
+	/**
+	 * The number of values that couldn't be converted, across all columns
+	 * @return
+	 */
+	public long getMalformedCount(){
+		long total = 0;
+
+		for(LongAdder count: malformed){
+			total += count.sum();
+		}
+
+		return total;
+	}
+
+	/**
+	 * Are there any problems to report
+	 * @return
+	 */
+	public boolean hasErrors(){
+		return (getBadRecordCount() > 0) || (getSkippedRecordCount() > 0)
+				|| (getMalformedCount() > 0);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+
+		sb.append("Parsed ").append(getRecordCount()).append(" records");
+		sb.append(", ").append(getBadRecordCount()).append(" with the wrong number of columns");
+		if(getSkippedRecordCount() > 0){
+			sb.append(", skipped ").append(getSkippedRecordCount()).append(" too long to read");
+		}
+
+		for(GoodReadsColumn column: COLUMNS){
+			final long count = getMalformedCount(column);
+
+			if(count > 0){
+				sb.append(", ").append(count).append(" malformed ").append(column.getHeader());
+			}
+		}
+
+		return sb.toString();
+	}
+}
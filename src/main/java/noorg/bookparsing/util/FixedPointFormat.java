@@ -0,0 +1,210 @@
+package noorg.bookparsing.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Formats doubles to at most a fixed number of decimal places, the same as
+ * a {@link java.text.DecimalFormat} pattern like <code>###.##</code> in an
+ * English locale. The value is rounded half even on its exact binary value,
+ * trailing zeros in the fraction are dropped, there is no grouping, and NaN
+ * and infinity come out as <code>NaN</code> and <code>&#8734;</code>. Like
+ * DecimalFormat, whole numbers too big for a long only keep the digits of
+ * {@link Double#toString(double)}.
+ *
+ * <p>Unlike a DecimalFormat a format is immutable, so one can be shared by
+ * any number of threads. Values that fit in a long once scaled are rounded
+ * with integer and fused multiply-add math, without allocating.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class FixedPointFormat {
+	private static final int MAX_FRACTION_DIGITS = 9;
+	private static final String INFINITY = "\u221E";
+
+	/**
+	 * Scaled values below this are exact integers as doubles, past it the
+	 * rounding is done with a {@link BigDecimal}
+	 */
+	private static final double EXACT_LIMIT = 1L << 52;
+
+	/**
+	 * Every double from here up is a whole number
+	 */
+	private static final double WHOLE_LIMIT = 1L << 53;
+
+	private final int fractionDigits;
+	private final long scale;
+
+	/**
+	 * @param fractionDigits the most digits after the decimal point
+	 * @throws IllegalArgumentException if the digits are negative or more than 9
+	 */
+	public FixedPointFormat(final int fractionDigits) {
+		super();
+		if((fractionDigits < 0) || (fractionDigits > MAX_FRACTION_DIGITS)){
+			throw new IllegalArgumentException("Fraction digits must be 0 to "
+					+ MAX_FRACTION_DIGITS + ": " + fractionDigits);
+		}
+
+		this.fractionDigits = fractionDigits;
+		this.scale = pow10(fractionDigits);
+	}
+
+	/**
+	 * Format the value
+	 * @param value
+	 * @return
+	 */
+	public String format(final double value){
+		return format(value, new StringBuilder()).toString();
+	}
+
+	/**
+	 * Format the value onto the end of a buffer
+	 *
+	 * @param value
+	 * @param sb
+	 * @return the buffer
+	 */
+	public StringBuilder format(final double value, final StringBuilder sb){
+		if(Double.isNaN(value)){
+			return sb.append("NaN");
+		}
+
+		// like DecimalFormat, -0.0 and negatives that round to zero keep the sign
+		if(Double.doubleToRawLongBits(value) < 0){
+			sb.append('-');
+		}
+
+		final double magnitude = Math.abs(value);
+		if(Double.isInfinite(magnitude)){
+			sb.append(INFINITY);
+		}else if((magnitude * scale) < EXACT_LIMIT){
+			appendScaled(sb, roundScaled(magnitude));
+		}else if(magnitude >= WHOLE_LIMIT){
+			// DecimalFormat only keeps the digits Double.toString has, the rest are zeros
+			sb.append(new BigDecimal(Double.toString(magnitude)).toPlainString());
+		}else{
+			BigDecimal rounded = new BigDecimal(magnitude).setScale(fractionDigits,
+					RoundingMode.HALF_EVEN).stripTrailingZeros();
+			if(rounded.scale() < 0){
+				rounded = rounded.setScale(0);
+			}
+			sb.append(rounded.toPlainString());
+		}
+
+		return sb;
+	}
+
+	/**
+	 * Round the value times the scale to the nearest integer, half even. The
+	 * signs of the fused multiply-adds are exact, so ties and near ties are
+	 * decided on the value itself rather than a rounded product.
+	 *
+	 * @param magnitude a non-negative value small enough to scale exactly
+	 * @return
+	 */
+	private long roundScaled(final double magnitude){
+		// only an estimate, the product is rounded
+		long scaled = (long)(magnitude * scale);
+		while((scaled > 0) && (Math.fma(magnitude, scale, -scaled) < 0)){
+			scaled--;
+		}
+		while(Math.fma(magnitude, scale, -(scaled + 1)) >= 0){
+			scaled++;
+		}
+
+		// now scaled <= magnitude * scale < scaled + 1
+		final double half = Math.fma(magnitude, scale, -(scaled + 0.5));
+		if((half > 0) || ((half == 0) && ((scaled & 1) == 1))){
+			scaled++;
+		}
+
+		return scaled;
+	}
+
+	/**
+	 * Write a scaled value, dropping trailing zeros from the fraction
+	 * @param sb
+	 * @param scaled
+	 */
+	private void appendScaled(final StringBuilder sb, final long scaled){
+		sb.append(scaled / scale);
+
+		long fraction = scaled % scale;
+		if(fraction != 0){
+			int digits = fractionDigits;
+			while((fraction % 10) == 0){
+				fraction /= 10;
+				digits--;
+			}
+
+			sb.append('.');
+			for(long place=pow10(digits - 1);place>fraction;place/=10){
+				sb.append('0');
+			}
+			sb.append(fraction);
+		}
+	}
+
+	private static long pow10(final int digits){
+		long power = 1;
+		for(int i=0;i<digits;i++){
+			power *= 10;
+		}
+
+		return power;
+	}
+
+	/**
+	 * Write a count as a percentage of the total to two decimal places,
+	 * rounding half up. This is what <code>String.format("%.2f")</code>
+	 * gives for <code>count * 100.0 / total</code>, but worked out with
+	 * integers, including NaN and Infinity for a total of 0.
+	 *
+	 * @param sb
+	 * @param count
+	 * @param total
+	 */
+	public static void appendPercent(final StringBuilder sb, final int count, final int total){
+		if(total == 0){
+			if(count == 0){
+				sb.append("NaN");
+			}else{
+				sb.append((count < 0) ? "-Infinity" : "Infinity");
+			}
+		}else{
+			// hundredths of a percent
+			final long numerator = Math.abs(count * 10000L);
+			final long denominator = Math.abs((long)total);
+			final long hundredths = ((2 * numerator) + denominator) / (2 * denominator);
+
+			if((count < 0) != (total < 0) && (count != 0)){
+				sb.append('-');
+			}
+			sb.append(hundredths / 100).append('.');
+
+			final long fraction = hundredths % 100;
+			if(fraction < 10){
+				sb.append('0');
+			}
+			sb.append(fraction);
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package noorg.bookparsing.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Finds which of a fixed set of keywords appear anywhere in a piece of text
+ * in a single pass over the text (Aho-Corasick). The keywords are compiled up
+ * front into a state machine, after that matching never allocates and is safe
+ * to do from multiple threads.
+ *
+ * <p>Matching is case sensitive. At most 64 keywords are supported, the
+ * matches are returned as a bit mask by keyword index.
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class KeywordMatcher {
+	private static final int MAX_KEYWORDS = Long.SIZE;
+
+	/**
+	 * Column of each character in the transition table, -1 for characters
+	 * that aren't in any keyword
+	 */
+	private final int[] columns;
+	private final int alphabetSize;
+
+	/**
+	 * transitions[state * alphabetSize + column] is the next state
+	 */
+	private final int[] transitions;
+
+	/**
+	 * The keywords found on reaching each state
+	 */
+	private final long[] outputs;
+
+	/**
+	 * Compile the keywords
+	 *
+	 * @param keywords
+	 * @throws IllegalArgumentException if there are too many keywords or one is empty
+	 */
+	public KeywordMatcher(final String... keywords) {
+		super();
+		if(keywords.length > MAX_KEYWORDS){
+			throw new IllegalArgumentException("At most " + MAX_KEYWORDS +
+					" keywords are supported: " + keywords.length);
+		}
+
+		// only the characters used by the keywords need a column
+		char maxChar = 0;
+		for(String keyword: keywords){
+			if((keyword == null) || keyword.isEmpty()){
+				throw new IllegalArgumentException("Keywords can't be empty");
+			}
+			for(int i=0;i<keyword.length();i++){
+				maxChar = (char)Math.max(maxChar, keyword.charAt(i));
+			}
+		}
+		columns = new int[maxChar + 1];
+		Arrays.fill(columns, -1);
+		int alphabet = 0;
+		for(String keyword: keywords){
+			for(int i=0;i<keyword.length();i++){
+				if(columns[keyword.charAt(i)] < 0){
+					columns[keyword.charAt(i)] = alphabet++;
+				}
+			}
+		}
+		alphabetSize = Math.max(alphabet, 1);
+
+		// build the trie
+		List<int[]> trie = new ArrayList<>();
+		List<Long> found = new ArrayList<>();
+		trie.add(newState());
+		found.add(0L);
+		for(int k=0;k<keywords.length;k++){
+			int state = 0;
+			for(int i=0;i<keywords[k].length();i++){
+				final int column = columns[keywords[k].charAt(i)];
+				if(trie.get(state)[column] < 0){
+					trie.get(state)[column] = trie.size();
+					trie.add(newState());
+					found.add(0L);
+				}
+				state = trie.get(state)[column];
+			}
+			found.set(state, found.get(state) | (1L << k));
+		}
+
+		// breadth first, fill in the missing transitions from the failure links
+		final int states = trie.size();
+		transitions = new int[states * alphabetSize];
+		outputs = new long[states];
+		int[] failure = new int[states];
+		Queue<Integer> queue = new ArrayDeque<>();
+
+		outputs[0] = found.get(0);
+		for(int c=0;c<alphabetSize;c++){
+			final int next = trie.get(0)[c];
+			if(next < 0){
+				transitions[c] = 0;
+			}else{
+				transitions[c] = next;
+				failure[next] = 0;
+				queue.add(next);
+			}
+		}
+
+		while(!queue.isEmpty()){
+			final int state = queue.remove();
+			outputs[state] = found.get(state) | outputs[failure[state]];
+
+			for(int c=0;c<alphabetSize;c++){
+				final int next = trie.get(state)[c];
+				final int fallback = transitions[(failure[state] * alphabetSize) + c];
+				if(next < 0){
+					transitions[(state * alphabetSize) + c] = fallback;
+				}else{
+					transitions[(state * alphabetSize) + c] = next;
+					failure[next] = fallback;
+					queue.add(next);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Find the keywords that appear in the text
+	 *
+	 * @param text
+	 * @return bit i is set if keyword i was found
+	 */
+	public long match(final CharSequence text){
+		long matches = 0;
+
+		if(text != null){
+			int state = 0;
+			for(int i=0;i<text.length();i++){
+				final char c = text.charAt(i);
+				final int column = (c < columns.length) ? columns[c] : -1;
+
+				if(column < 0){
+					// not part of any keyword, start over
+					state = 0;
+				}else{
+					state = transitions[(state * alphabetSize) + column];
+					matches |= outputs[state];
+				}
+			}
+		}
+
+		return matches;
+	}
+
+	private int[] newState(){
+		int[] state = new int[alphabetSize];
+		Arrays.fill(state, -1);
+
+		return state;
+	}
+}
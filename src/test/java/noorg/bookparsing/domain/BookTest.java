@@ -0,0 +1,87 @@
+package noorg.bookparsing.domain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link Book} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class BookTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			BookTest.class);
+
+	@Test
+	public void testShelves() {
+		logger.info("testShelves");
+
+		final List<String> shelves = new ArrayList<>(Arrays.asList("book-test-first",
+				"book-test-second", "to-read"));
+		final ShelfDictionary dictionary = new ShelfDictionary();
+		dictionary.getId("to-read");
+		dictionary.getId("book-test-other");
+
+		Book book = new Book();
+		book.setShelfDictionary(dictionary);
+		assertNull(book.getBookshelves());
+		assertEquals(0, book.getShelfCount());
+		assertFalse(book.hasShelf("to-read"));
+
+		book.setBookshelves(shelves);
+		shelves.clear();
+
+		// the names are only kept in the dictionary, and come back in id order
+		assertEquals(4, dictionary.size());
+		assertEquals(Arrays.asList("to-read", "book-test-first", "book-test-second"),
+				book.getBookshelves());
+		assertEquals(3, book.getShelfCount());
+		assertEquals(0, book.nextShelfId(0));
+		assertEquals(2, book.nextShelfId(1));
+		assertEquals(3, book.nextShelfId(3));
+		assertEquals(-1, book.nextShelfId(4));
+		assertEquals("book-test-second", book.getShelfName(3));
+
+		assertTrue(book.hasShelf("book-test-first"));
+		assertTrue(book.hasShelf(dictionary.findId("book-test-second")));
+		assertFalse(book.hasShelf("book-test-missing"));
+		assertFalse(book.hasShelf(ShelfDictionary.UNKNOWN));
+
+		// a book without a dictionary gets its own
+		Book other = new Book();
+		other.setBookshelves(Arrays.asList("to-read"));
+		assertNotSame(dictionary, other.getShelfDictionary());
+		assertTrue(other.hasShelf("to-read"));
+		assertFalse(other.hasShelf("book-test-first"));
+
+		book.setBookshelves(null);
+		assertNull(book.getBookshelves());
+		assertFalse(book.hasShelf("book-test-first"));
+	}
+}
@@ -0,0 +1,66 @@
+package noorg.bookparsing.domain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link YearSet} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class YearSetTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			YearSetTest.class);
+
+	@Test
+	public void testYears() {
+		logger.info("testYears");
+
+		YearSet years = YearSet.EMPTY.with(2016).with(2012).with(2014);
+		assertEquals(YearSet.of(2014, 2012, 2016, 2012), years);
+		assertEquals(3, years.size());
+		assertEquals(2012, years.first());
+		assertEquals(2016, years.get(2));
+		assertTrue(years.contains(2014));
+		assertFalse(years.contains(2015));
+		assertEquals("[2012, 2014, 2016]", years.toString());
+
+		// adding a year that's already there doesn't copy
+		assertSame(years, years.with(2014));
+		assertSame(YearSet.EMPTY, YearSet.of());
+	}
+
+	@Test
+	public void testBook() {
+		logger.info("testBook");
+
+		Book book = new Book();
+		assertTrue(book.getYearsRead().isEmpty());
+		assertTrue(book.addYearRead(2019));
+		assertFalse(book.addYearRead(2019));
+
+		book.setYearsRead(null);
+		assertSame(YearSet.EMPTY, book.getYearsRead());
+	}
+}
@@ -0,0 +1,131 @@
+package noorg.bookparsing.domain.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.types.BookFormat;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link EnumCounter} and {@link IntCounter} classes
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class CounterTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			CounterTest.class);
+
+	@Test
+	public void testEnumCounter() {
+		logger.info("testEnumCounter");
+
+		EnumCounter<BookFormat> counter = new EnumCounter<>(BookFormat.class);
+		counter.increment(BookFormat.EBOOK);
+		counter.increment(BookFormat.EBOOK);
+		counter.increment(BookFormat.AUDIO_BOOK);
+
+		Map<BookFormat, Integer> expected = new HashMap<>();
+		expected.put(BookFormat.EBOOK, 2);
+		expected.put(BookFormat.AUDIO_BOOK, 1);
+		assertEquals(expected, counter.asMap());
+		assertEquals(0, counter.get(BookFormat.BOOK));
+		assertNull(counter.asMap().get(BookFormat.BOOK));
+		assertFalse(counter.asMap().containsKey("EBOOK"));
+
+		EnumCounter<BookFormat> other = new EnumCounter<>(BookFormat.class);
+		other.increment(BookFormat.AUDIO_BOOK);
+		counter.merge(other);
+		assertEquals(2, counter.get(BookFormat.AUDIO_BOOK));
+	}
+
+	@Test
+	public void testIntCounter() {
+		logger.info("testIntCounter");
+
+		IntCounter counter = new IntCounter();
+		Map<Integer, Integer> expected = new HashMap<>();
+
+		// grow in both directions from the first key
+		for(int year: new int[]{1990, 2021, 1850, 1990, -500, 3000}){
+			counter.increment(year);
+			expected.merge(year, 1, Integer::sum);
+			assertEquals(expected, counter.asMap());
+		}
+		assertEquals(2, counter.get(1990));
+		assertEquals(0, counter.get(1991));
+		assertEquals(0, counter.get(Integer.MAX_VALUE));
+
+		IntCounter other = new IntCounter();
+		other.increment(Integer.MIN_VALUE + 1);
+		other.increment(Integer.MIN_VALUE);
+		assertEquals(2, other.asMap().size());
+	}
+
+	@Test
+	public void testIntCounterFarApart() {
+		logger.info("testIntCounterFarApart");
+
+		// close enough for a slot each
+		IntCounter years = new IntCounter();
+		years.increment(2020);
+		years.increment(0);
+		assertEquals(1, years.get(0));
+		assertEquals(1, years.get(2020));
+		assertEquals(2, years.asMap().size());
+
+		// too far apart, only the counted keys are kept
+		IntCounter counter = new IntCounter();
+		Map<Integer, Integer> expected = new TreeMap<>();
+		for(int year: new int[]{2020, 2019, 0, 20015, 2020, Integer.MAX_VALUE,
+				Integer.MIN_VALUE, 2021, 0}){
+			counter.increment(year);
+			expected.merge(year, 1, Integer::sum);
+			assertEquals(expected, counter.asMap());
+		}
+		assertEquals(2, counter.get(2020));
+		assertEquals(0, counter.get(2018));
+		assertEquals(0, counter.get("2020"));
+		assertNull(counter.asMap().get(20014));
+
+		// still in key order
+		assertEquals(new ArrayList<>(expected.keySet()),
+				new ArrayList<>(counter.asMap().keySet()));
+
+		// merge a dense counter into a sparse one and back
+		IntCounter dense = new IntCounter();
+		dense.increment(2019);
+		dense.increment(1999);
+		counter.merge(dense);
+		assertEquals(2, counter.get(2019));
+		assertEquals(1, counter.get(1999));
+
+		dense.merge(counter);
+		assertEquals(3, dense.get(2019));
+		assertEquals(1, dense.get(20015));
+		assertEquals(counter.asMap().size(), dense.asMap().size());
+	}
+}
@@ -0,0 +1,67 @@
+package noorg.bookparsing.domain.report;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.types.BookFormat;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link FixedWidthTable} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class FixedWidthTableTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			FixedWidthTableTest.class);
+
+	@Test
+	public void testPadding() throws IOException {
+		logger.info("testPadding");
+
+		FixedWidthTable table = new FixedWidthTable(15, 8, 8);
+		table.cell("Year").cell(2016).cell(BookFormat.AUDIO_BOOK).countPercent(3, 8);
+
+		assertEquals(String.format("%-8s%-8s%-15s%-15s", "Year", 2016, "AUDIO_BOOK", "3 (37.50%)"),
+				table.toString());
+
+		// the row is cleared once written
+		StringBuilder out = new StringBuilder();
+		table.appendRow(out);
+		assertEquals("", table.toString());
+
+		table.cell(1).cell(2);
+		table.appendRow(out);
+		assertEquals(String.format("%-8s%-8s%-15s%-15s", "Year", 2016, "AUDIO_BOOK", "3 (37.50%)")
+				+ String.format("%-8s%-8s", 1, 2), out.toString());
+	}
+
+	@Test
+	public void testWideCell() {
+		logger.info("testWideCell");
+
+		FixedWidthTable table = new FixedWidthTable(4, 2);
+		table.cell("Longer").cell("a").cell("b");
+
+		assertEquals(String.format("%-2s%-4s%-4s", "Longer", "a", "b"), table.toString());
+	}
+}
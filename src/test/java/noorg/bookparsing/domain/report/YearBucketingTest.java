@@ -0,0 +1,63 @@
+package noorg.bookparsing.domain.report;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link YearBucketing} enum
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class YearBucketingTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			YearBucketingTest.class);
+
+	@Test
+	public void testBucket() {
+		logger.info("testBucket");
+
+		assertEquals(1990, YearBucketing.DECADE.bucket(1999));
+		assertEquals(2020, YearBucketing.DECADE.bucket(2020));
+		// before 1800 isn't lumped in with the latest decade any more
+		assertEquals(1590, YearBucketing.DECADE.bucket(1597));
+		assertEquals(-10, YearBucketing.DECADE.bucket(-5));
+		assertEquals(1975, YearBucketing.QUARTER_CENTURY.bucket(1999));
+		assertEquals(1900, YearBucketing.CENTURY.bucket(1999));
+	}
+
+	@Test
+	public void testBucketCounts() {
+		logger.info("testBucketCounts");
+
+		Map<Integer, Integer> byYear = new HashMap<>();
+		byYear.put(1901, 2);
+		byYear.put(1999, 1);
+		byYear.put(2001, 4);
+
+		Map<Integer, Integer> expected = new HashMap<>();
+		expected.put(1900, 3);
+		expected.put(2000, 4);
+		assertEquals(expected, YearBucketing.CENTURY.bucket(byYear).asMap());
+	}
+}
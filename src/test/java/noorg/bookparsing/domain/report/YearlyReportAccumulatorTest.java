@@ -0,0 +1,120 @@
+package noorg.bookparsing.domain.report;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.YearSet;
+import noorg.bookparsing.domain.types.BookFormat;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link YearlyReportAccumulator} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class YearlyReportAccumulatorTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			YearlyReportAccumulatorTest.class);
+
+	@Test
+	public void testAddBooks() {
+		logger.info("testAddBooks");
+
+		List<Book> books = new ArrayList<>();
+		books.add(book(2014));
+		books.add(book(2014, 2016));
+		books.add(book(2016, 2020));
+		books.add(book());
+
+		List<YearlyReport> reports = new YearlyReportAccumulator(
+				Arrays.asList(2016, 2014, 2015)).addBooks(books).getReports();
+
+		assertEquals(3, reports.size());
+		for(YearlyReport report: reports){
+			// the same as scanning every book for each year
+			YearlyReport scanned = new YearlyReport(report.getYear());
+			books.forEach(scanned::addBook);
+
+			assertEquals(scanned.getBooks(), report.getBooks());
+		}
+		assertEquals(2014, reports.get(0).getYear());
+		assertEquals(2, reports.get(0).getTotal());
+		assertEquals(0, reports.get(1).getTotal());
+		assertEquals(2, reports.get(2).getTotal());
+	}
+
+	@Test
+	public void testParallelCollect() {
+		logger.info("testParallelCollect");
+
+		List<Book> books = new ArrayList<>();
+		for(int i=0;i<5000;i++){
+			Book book = book(2014 + (i % 3), 2017);
+			book.setNumberOfPages(100 + (i % 500));
+			book.setFormat(((i % 4) == 0) ? BookFormat.AUDIO_BOOK : BookFormat.BOOK);
+			book.setMyRating(i % 6);
+			books.add(book);
+		}
+
+		List<Integer> years = Arrays.asList(2014, 2015, 2016, 2017);
+		List<YearlyReport> sequential = new YearlyReportAccumulator(years)
+				.addBooks(books).getReports();
+		List<YearlyReport> parallel = books.parallelStream().collect(
+				YearlyReportAccumulator.collector(years));
+
+		for(int i=0;i<years.size();i++){
+			YearlyReport expected = sequential.get(i);
+			YearlyReport actual = parallel.get(i);
+
+			assertEquals(expected.getBooks(), actual.getBooks());
+			assertEquals(expected.getRereadBooks(), actual.getRereadBooks());
+			assertEquals(expected.getCountsByFormat(), actual.getCountsByFormat());
+			assertEquals(expected.getCountsByRating(), actual.getCountsByRating());
+			assertEquals(expected.getTotalPages(), actual.getTotalPages());
+			assertEquals(expected.getTotalHours(), actual.getTotalHours());
+			assertEquals(expected.getTotalRating(), actual.getTotalRating());
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testMergeDifferentYears() {
+		logger.info("testMergeDifferentYears");
+
+		new YearlyReport(2014).merge(new YearlyReport(2015));
+	}
+
+	private static Book book(final int... yearsRead){
+		Book book = new Book();
+		book.setFormat(BookFormat.BOOK);
+		book.setNumberOfPages(100);
+		book.setYearOfPublication(2000);
+		book.setYearsRead(YearSet.of(yearsRead));
+		if(yearsRead.length > 0){
+			book.setFirstRead(book.getYearsRead().first());
+		}
+
+		return book;
+	}
+}
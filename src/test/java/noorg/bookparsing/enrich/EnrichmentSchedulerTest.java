@@ -0,0 +1,113 @@
+package noorg.bookparsing.enrich;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
+import noorg.bookparsing.domain.types.BookGenre;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link EnrichmentScheduler} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class EnrichmentSchedulerTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			EnrichmentSchedulerTest.class);
+
+	@Test
+	public void testSchedule() {
+		logger.info("testSchedule");
+
+		ContributorGenderEnricher gender = new ContributorGenderEnricher();
+		List<AbstractBookEnricher> enrichers = Arrays.asList(new GenreEnricher(),
+				gender, new BacklogBookEnricher(), new ReadHistoryEnricher());
+
+		try(EnrichmentScheduler scheduler = new EnrichmentScheduler(enrichers, 2)){
+			// nothing needs the backlog flag
+			EnrichmentSchedule schedule = scheduler.schedule(EnumSet.of(BookField.GENRE,
+					BookField.AUTHOR_GENDER, BookField.YEARS_READ));
+
+			assertEquals(1, schedule.getWaves().size());
+			List<AbstractBookEnricher> wave = schedule.getWaves().get(0);
+			assertEquals(1, wave.size());
+
+			// the independent enrichers are fused into one pass
+			EnrichmentPipeline fused = (EnrichmentPipeline)wave.get(0);
+			assertEquals(3, fused.getEnrichers().size());
+			assertTrue(fused.getEnrichers().get(0) instanceof GenreEnricher);
+			assertEquals(gender, fused.getEnrichers().get(1));
+			assertTrue(fused.getEnrichers().get(2) instanceof ReadHistoryEnricher);
+		}
+	}
+
+	@Test
+	public void testDependencies() {
+		logger.info("testDependencies");
+
+		// listed before the enricher it depends on
+		AbstractBookEnricher needsGenre = new AbstractBookEnricher() {
+			@Override
+			public EnumSet<BookField> getReads() {
+				return EnumSet.of(BookField.GENRE);
+			}
+
+			@Override
+			public EnumSet<BookField> getWrites() {
+				return EnumSet.of(BookField.FROM_BACKLOG);
+			}
+
+			@Override
+			protected void enrichBook(Book book) {
+				book.setFromBacklog(BookGenre.FANTASY.equals(book.getGenre()));
+			}
+		};
+
+		try(EnrichmentScheduler scheduler = new EnrichmentScheduler(
+				Arrays.asList(needsGenre, new GenreEnricher()), 2)){
+			EnrichmentSchedule schedule = scheduler.schedule(EnumSet.of(BookField.FROM_BACKLOG));
+
+			// not independent, so it waits for the genre pass
+			assertEquals(2, schedule.getWaves().size());
+			assertEquals(needsGenre, schedule.getWaves().get(1).get(0));
+
+			List<Book> books = new ArrayList<>();
+			Book book = new Book();
+			book.setBookshelves(Arrays.asList("fantasy"));
+			books.add(book);
+			book = new Book();
+			book.setBookshelves(Arrays.asList("history"));
+			books.add(book);
+
+			schedule.enrichBooks(books);
+			assertTrue(books.get(0).isFromBacklog());
+			assertFalse(books.get(1).isFromBacklog());
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package noorg.bookparsing.enrich;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.ShelfDictionary;
+import noorg.bookparsing.domain.types.BookGenre;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link GenreEnricher} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class GenreEnricherTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			GenreEnricherTest.class);
+
+	@Test
+	public void testSpecialShelves() {
+		logger.info("testSpecialShelves");
+
+		// on both special shelves the first genre wins, whatever order they're in
+		final ShelfDictionary dictionary = new ShelfDictionary();
+		Book first = new Book();
+		first.setShelfDictionary(dictionary);
+		first.setBookshelves(Arrays.asList("to-read", "non-fiction", "sci-fi"));
+		Book second = new Book();
+		second.setShelfDictionary(dictionary);
+		second.setBookshelves(Arrays.asList("sci-fi", "to-read", "non-fiction"));
+		Book sciFi = new Book();
+		sciFi.setShelfDictionary(dictionary);
+		sciFi.setBookshelves(Arrays.asList("science-fiction", "to-read"));
+		Book fantasy = new Book();
+		fantasy.setShelfDictionary(dictionary);
+		fantasy.setBookshelves(Arrays.asList("sci-fi", "epic-fantasy"));
+
+		new GenreEnricher().enrichBooks(Arrays.asList(first, second, sciFi, fantasy));
+
+		assertEquals(BookGenre.NONFICTION, first.getGenre());
+		assertEquals(BookGenre.NONFICTION, second.getGenre());
+		assertEquals(BookGenre.SCIFI, sciFi.getGenre());
+		assertEquals(BookGenre.FANTASY, fantasy.getGenre());
+	}
+}
@@ -0,0 +1,186 @@
+package noorg.bookparsing.enrich;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.YearSet;
+import noorg.bookparsing.domain.types.BookGenre;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link IncrementalEnricher} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class IncrementalEnricherTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			IncrementalEnricherTest.class);
+
+	@Test
+	public void testReuse() throws IOException {
+		logger.info("testReuse");
+
+		IncrementalEnricher first = newEnricher();
+		first.enrichBooks(books("horror"));
+		assertEquals(0, first.getReusedCount());
+		assertEquals(3, first.getEnrichedCount());
+
+		StringWriter saved = new StringWriter();
+		first.save(saved);
+
+		// the next run only enriches the book that changed
+		IncrementalEnricher second = newEnricher();
+		second.load(new StringReader(saved.toString()));
+		List<Book> books = books("fantasy");
+		second.enrichBooks(books);
+		assertEquals(2, second.getReusedCount());
+		assertEquals(1, second.getEnrichedCount());
+
+		assertEquals(BookGenre.MYSTERY, books.get(0).getGenre());
+		assertEquals(Integer.valueOf(2014), books.get(0).getFirstRead());
+		assertEquals(YearSet.of(2014, 2016), books.get(0).getYearsRead());
+		assertTrue(books.get(0).isFromBacklog());
+		assertEquals(BookGenre.FANTASY, books.get(2).getGenre());
+	}
+
+	@Test
+	public void testPrune() throws IOException {
+		logger.info("testPrune");
+
+		IncrementalEnricher first = newEnricher();
+		first.enrichBooks(books("horror"));
+		StringWriter saved = new StringWriter();
+		first.save(saved);
+
+		// the last book left the export, so it isn't saved again
+		IncrementalEnricher second = newEnricher();
+		second.load(new StringReader(saved.toString()));
+		second.enrichBooks(books("horror").subList(0, 2));
+		StringWriter pruned = new StringWriter();
+		second.save(pruned);
+		assertEquals(3, pruned.toString().split(System.lineSeparator()).length);
+
+		IncrementalEnricher third = newEnricher();
+		third.load(new StringReader(pruned.toString()));
+		third.enrichBooks(books("horror"));
+		assertEquals(2, third.getReusedCount());
+		assertEquals(1, third.getEnrichedCount());
+	}
+
+	@Test
+	public void testDifferentEnricher() throws IOException {
+		logger.info("testDifferentEnricher");
+
+		IncrementalEnricher first = newEnricher();
+		first.enrichBooks(books("horror"));
+		StringWriter saved = new StringWriter();
+		first.save(saved);
+
+		IncrementalEnricher other = new IncrementalEnricher(new GenreEnricher());
+		other.load(new StringReader(saved.toString()));
+		other.enrichBooks(books("horror"));
+		assertEquals(0, other.getReusedCount());
+	}
+
+	@Test
+	public void testDifferentSetup() throws IOException {
+		logger.info("testDifferentSetup");
+
+		IncrementalEnricher first = newEnricher();
+		first.enrichBooks(books("horror"));
+		StringWriter saved = new StringWriter();
+		first.save(saved);
+
+		// same enrichers, but a different backlog shelf
+		IncrementalEnricher backlog = new IncrementalEnricher(new EnrichmentPipeline(
+				new BacklogBookEnricher("to-read"), new ReadHistoryEnricher(), new GenreEnricher()));
+		backlog.load(new StringReader(saved.toString()));
+		List<Book> books = books("horror");
+		backlog.enrichBooks(books);
+		assertEquals(0, backlog.getReusedCount());
+		assertFalse(books.get(0).isFromBacklog());
+		assertTrue(books.get(1).isFromBacklog());
+
+		// different shelf rules
+		StringWriter savedRules = new StringWriter();
+		IncrementalEnricher rules = rulesEnricher("horror -> GENRE=HORROR");
+		rules.enrichBooks(books("horror"));
+		rules.save(savedRules);
+
+		IncrementalEnricher sameRules = rulesEnricher("horror -> GENRE=HORROR");
+		sameRules.load(new StringReader(savedRules.toString()));
+		sameRules.enrichBooks(books("horror"));
+		assertEquals(3, sameRules.getReusedCount());
+
+		IncrementalEnricher otherRules = rulesEnricher("horror -> GENRE=MYSTERY");
+		otherRules.load(new StringReader(savedRules.toString()));
+		books = books("horror");
+		otherRules.enrichBooks(books);
+		assertEquals(0, otherRules.getReusedCount());
+		assertEquals(BookGenre.MYSTERY, books.get(2).getGenre());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testSharedFields() {
+		logger.info("testSharedFields");
+
+		new IncrementalEnricher(new ContributorGenderEnricher());
+	}
+
+	private static IncrementalEnricher newEnricher(){
+		return new IncrementalEnricher(new EnrichmentPipeline(new BacklogBookEnricher(),
+				new ReadHistoryEnricher(), new GenreEnricher()));
+	}
+
+	private static IncrementalEnricher rulesEnricher(final String rule) throws IOException {
+		return new IncrementalEnricher(new RuleBasedEnricher(
+				RuleBasedEnricher.parse(new StringReader(rule))));
+	}
+
+	private static List<Book> books(final String lastGenre){
+		List<Book> books = new ArrayList<>();
+
+		books.add(book("1", "mystery", "own-backlog", "read-2014"));
+		books.get(0).setDateRead(LocalDate.of(2016, 5, 1));
+		books.add(book("2", "to-read"));
+		books.add(book("3", lastGenre));
+
+		return books;
+	}
+
+	private static Book book(final String id, final String... shelves){
+		Book book = new Book();
+		book.setId(id);
+		book.setBookshelves(Arrays.asList(shelves));
+
+		return book;
+	}
+}
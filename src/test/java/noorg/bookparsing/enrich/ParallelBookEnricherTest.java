@@ -0,0 +1,90 @@
+package noorg.bookparsing.enrich;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link ParallelBookEnricher} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class ParallelBookEnricherTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			ParallelBookEnricherTest.class);
+
+	@Test
+	public void testEnrichBooks() {
+		logger.info("testEnrichBooks");
+
+		List<Book> books = new ArrayList<>();
+		for(int i=0;i<1000;i++){
+			Book book = new Book();
+			if((i % 3) == 0){
+				book.setBookshelves(Arrays.asList("to-read", "own-backlog"));
+			}else{
+				book.setBookshelves(Collections.singletonList("to-read"));
+			}
+			books.add(book);
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try(ParallelBookEnricher enricher = new ParallelBookEnricher(
+				new BacklogBookEnricher(), pool, 16)){
+			assertTrue(enricher.isIndependent());
+			enricher.enrichBooks(books);
+		}finally{
+			pool.shutdown();
+		}
+
+		for(int i=0;i<books.size();i++){
+			assertEquals("Book " + i, (i % 3) == 0, books.get(i).isFromBacklog());
+		}
+	}
+
+	@Test
+	public void testNotIndependent() {
+		logger.info("testNotIndependent");
+
+		// an enricher that doesn't say it's independent
+		AbstractBookEnricher notIndependent = new AbstractBookEnricher() {
+			@Override
+			protected void enrichBook(Book book) {
+				book.setFromBacklog(false);
+			}
+		};
+		EnrichmentPipeline pipeline = new EnrichmentPipeline(new BacklogBookEnricher(),
+				notIndependent);
+
+		try(ParallelBookEnricher enricher = new ParallelBookEnricher(pipeline, 2)){
+			assertFalse(enricher.isIndependent());
+		}
+	}
+}
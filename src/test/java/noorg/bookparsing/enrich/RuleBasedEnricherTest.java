@@ -0,0 +1,104 @@
+package noorg.bookparsing.enrich;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.BookField;
+import noorg.bookparsing.domain.Contributor;
+import noorg.bookparsing.domain.YearSet;
+import noorg.bookparsing.domain.types.BookFormat;
+import noorg.bookparsing.domain.types.BookGenre;
+import noorg.bookparsing.domain.types.ContributorGender;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link RuleBasedEnricher} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class RuleBasedEnricherTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			RuleBasedEnricherTest.class);
+
+	private static final String RULES = "# test rules\n"
+			+ "*comic*      -> FORMAT=GRAPHIC_NOVEL\n"
+			+ "\n"
+			+ "to-read-pile -> FROM_BACKLOG=true\n"
+			+ "finished-*   -> YEARS_READ=*\n"
+			+ "she-wrote-it -> AUTHOR_GENDER=FEMALE\n"
+			+ "space        -> GENRE=SCIFI\n"
+			+ "*space*      -> GENRE=HORROR\n";
+
+	@Test
+	public void testEnrich() throws IOException {
+		logger.info("testEnrich");
+
+		RuleBasedEnricher enricher = new RuleBasedEnricher(
+				RuleBasedEnricher.parse(new StringReader(RULES)));
+		assertEquals(6, enricher.getRules().size());
+		assertEquals(EnumSet.of(BookField.FORMAT, BookField.FROM_BACKLOG,
+				BookField.YEARS_READ, BookField.FIRST_READ, BookField.AUTHOR_GENDER,
+				BookField.GENRE), enricher.getWrites());
+		assertFalse(enricher.isIndependent());
+
+		Book book = new Book();
+		book.setAuthor(new Contributor());
+		book.setBookshelves(Arrays.asList("deep-space", "space", "finished-2015",
+				"finished-2012", "finished-soon", "my-comics", "she-wrote-it"));
+		enricher.enrichBooks(Collections.singletonList(book));
+
+		assertEquals(BookFormat.GRAPHIC_NOVEL, book.getFormat());
+		// the first rule wins, not the first shelf
+		assertEquals(BookGenre.SCIFI, book.getGenre());
+		assertEquals(YearSet.of(2012, 2015), book.getYearsRead());
+		assertEquals(Integer.valueOf(2012), book.getFirstRead());
+		assertEquals(ContributorGender.FEMALE, book.getAuthor().getGender());
+		assertFalse(book.isFromBacklog());
+
+		Book backlog = new Book();
+		backlog.setBookshelves(Collections.singletonList("to-read-pile"));
+		enricher.enrichBooks(Collections.singletonList(backlog));
+		assertTrue(backlog.isFromBacklog());
+	}
+
+	@Test
+	public void testInvalidRules() throws IOException {
+		logger.info("testInvalidRules");
+
+		for(String rule: Arrays.asList("no-arrow", "shelf -> TITLE=x",
+				"shelf -> FORMAT=SCROLL", "*shelf* -> YEARS_READ=*", "a*b -> GENRE=HORROR")){
+			try{
+				RuleBasedEnricher.parse(new StringReader("# comment\n" + rule));
+				throw new AssertionError("Expected an error for " + rule);
+			}catch(IllegalArgumentException e){
+				assertTrue(e.getMessage(), e.getMessage().startsWith("Line 2: "));
+			}
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package noorg.bookparsing.enrich;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.types.BookGenre;
+import noorg.bookparsing.domain.types.ContributorGender;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link ShelfClassifier} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class ShelfClassifierTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			ShelfClassifierTest.class);
+
+	@Test
+	public void testClassify() {
+		logger.info("testClassify");
+
+		ShelfClassification manga = classify("manga-fantasy");
+		assertTrue(manga.isGraphicNovel());
+		assertEquals(1L << BookGenre.FANTASY.ordinal(), manga.getGenres());
+		assertNull(manga.getSpecialGenre());
+		assertEquals(ShelfClassification.NO_YEAR, manga.getYearRead());
+		assertNull(manga.getAuthorGender());
+
+		ShelfClassification sciFi = classify("sci-fi");
+		assertFalse(sciFi.isGraphicNovel());
+		assertEquals(BookGenre.SCIFI, sciFi.getSpecialGenre());
+		assertEquals(0, sciFi.getGenres());
+		assertEquals(BookGenre.SCIFI, classify("science-fiction").getSpecialGenre());
+		assertEquals(BookGenre.NONFICTION, classify("non-fiction").getSpecialGenre());
+
+		// synonyms only count as the whole shelf, genres anywhere in it
+		ShelfClassification partial = classify("sci-fi-horror");
+		assertNull(partial.getSpecialGenre());
+		assertEquals(1L << BookGenre.HORROR.ordinal(), partial.getGenres());
+
+		assertEquals(2014, classify("read-2014").getYearRead());
+		assertEquals(ShelfClassification.NO_YEAR,
+				classify("read-before-goodreads").getYearRead());
+		assertEquals(ContributorGender.NON_BINARY,
+				classify("author-non_binary").getAuthorGender());
+	}
+
+	@Test
+	public void testCache() {
+		logger.info("testCache");
+
+		final ShelfClassification first = classify("shelf-classifier-test");
+		final long hits = ShelfClassifier.getHitCount();
+
+		assertSame(first, classify(new String("shelf-classifier-test")));
+		assertTrue(ShelfClassifier.getHitCount() > hits);
+	}
+
+	private static ShelfClassification classify(final String shelf){
+		return ShelfClassifier.classify(shelf);
+	}
+}
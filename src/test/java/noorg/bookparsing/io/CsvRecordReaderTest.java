@@ -0,0 +1,109 @@
+package noorg.bookparsing.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link CsvRecordReader} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class CsvRecordReaderTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			CsvRecordReaderTest.class);
+
+	@Test
+	public void testReadRecord() throws Exception {
+		logger.info("testReadRecord");
+
+		final String input = "Book Id,Title,My Review\r\n"
+				+ "1,Dune,\"Great\r\n\r\nRead it again, \"\"soon\"\"\"\r\n"
+				+ "\r\n"
+				+ "2,Emma,\n"
+				+ "3,Kindred,\"last\"";
+
+		List<String> records = readAll(new CsvRecordReader(new StringReader(input)));
+
+		assertEquals("Wrong number of records", 4, records.size());
+		assertEquals("Book Id,Title,My Review", records.get(0));
+		assertEquals("1,Dune,\"Great\r\n\r\nRead it again, \"\"soon\"\"\"", records.get(1));
+		assertEquals("2,Emma,", records.get(2));
+		assertEquals("3,Kindred,\"last\"", records.get(3));
+	}
+
+	@Test
+	public void testEmptyInput() throws Exception {
+		logger.info("testEmptyInput");
+
+		try(CsvRecordReader reader = new CsvRecordReader(new StringReader("\r\n\n"))){
+			assertNull("Blank input should have no records", reader.readRecord());
+			assertEquals(0, reader.getRecordNumber());
+		}
+	}
+
+	@Test
+	public void testMaxRecordLength() throws Exception {
+		logger.info("testMaxRecordLength");
+
+		// unbalanced quote would otherwise swallow the remaining records
+		final String input = "1,\"Dune,\r\n2,Emma\r\n3,Kindred\r\n";
+
+		CsvRecordReader reader = new CsvRecordReader(new StringReader(input), 16);
+		List<String> records = readAll(reader);
+
+		assertEquals(Arrays.asList("2,Emma", "3,Kindred"), records);
+		assertEquals(1, reader.getSkippedCount());
+		assertEquals(3, reader.getRecordNumber());
+	}
+
+	@Test
+	public void testMaxLineLength() throws Exception {
+		logger.info("testMaxLineLength");
+
+		final String input = "1,Dune\n2,\"" + "x".repeat(10000) + "\"\n3,Kindred\n"
+				+ "y".repeat(20) + "\n4,Emma";
+
+		CsvRecordReader reader = new CsvRecordReader(new StringReader(input), 16);
+		List<String> records = readAll(reader);
+
+		assertEquals(Arrays.asList("1,Dune", "3,Kindred", "4,Emma"), records);
+		assertEquals(2, reader.getSkippedCount());
+		assertEquals(5, reader.getRecordNumber());
+	}
+
+	private List<String> readAll(final CsvRecordReader reader) throws Exception{
+		List<String> records = new ArrayList<>();
+
+		try(reader){
+			for(String record: reader){
+				records.add(record);
+			}
+		}
+
+		return records;
+	}
+}
@@ -0,0 +1,150 @@
+package noorg.bookparsing.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.opencsv.CSVParser;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link MappedCsvRecordReader} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class MappedCsvRecordReaderTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			MappedCsvRecordReaderTest.class);
+
+	/**
+	 * Goodreads style records, quoting the ISBNs as ="..." and with reviews
+	 * that span lines
+	 */
+	static final String EXPORT = "Book Id,Title,Author,ISBN,ISBN13,My Rating,"
+			+ "Average Rating,Number of Pages,Date Read,My Review,Read Count\r\n"
+			+ "1,Dune,Frank Herbert,\"=\"\"0441172717\"\"\",\"=\"\"9780441172719\"\"\","
+			+ "5,4.25,412,2019/03/07,\"Great\r\n\r\nRead it again, \"\"soon\"\"\",3+\r\n"
+			+ "\r\n"
+			+ "2,\"Emma, Again\",Jane Austen,\"=\"\"\"\"\",\"=\"\"\"\"\",0,3.90,,,,1\n"
+			+ "3,Kindred,Octavia E. Butler,\"=\"\"0807083690\"\"\",,4,4.1,12x,"
+			+ "2020/02/29,Señora ☃,\r\n"
+			+ "4,\"\",,,,,,,2019/13/01,\"last\",many";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testMatchesCsvRecordReader() throws Exception {
+		logger.info("testMatchesCsvRecordReader");
+
+		final File file = write(EXPORT);
+
+		List<List<String>> expected = new ArrayList<>();
+		CSVParser parser = new CSVParser();
+		try(CsvRecordReader reader = new CsvRecordReader(new FileInputStream(file))){
+			for(String record: reader){
+				expected.add(Arrays.asList(parser.parseLine(record)));
+			}
+		}
+		assertEquals(5, expected.size());
+		assertEquals("=\"0441172717\"", expected.get(1).get(3));
+
+		// every window size splits the records in a different place
+		for(int windowSize: new int[]{1, 2, 3, 7, 64, MappedCsvRecordReader.DEFAULT_WINDOW_SIZE}){
+			assertEquals("Window of " + windowSize, expected, readAll(file, windowSize));
+		}
+	}
+
+	@Test
+	public void testSkippedColumns() throws Exception {
+		logger.info("testSkippedColumns");
+
+		try(MappedCsvRecordReader reader = new MappedCsvRecordReader(write(EXPORT).toPath(),
+				new boolean[]{false, true, false, false, false, false, true})){
+			reader.readRecord();
+			CsvRecord record = reader.readRecord();
+
+			assertEquals(11, record.size());
+			assertFalse(record.isDecoded(0));
+			assertNull(record.get(0));
+			assertEquals("Dune", record.get(1));
+			assertNull(record.get(9));
+
+			// numbers can be read straight from the bytes
+			assertTrue(record.isDecoded(6));
+			assertEquals("4.25", record.subSequence(record.getStart(6), record.getEnd(6)));
+			assertEquals('4', record.charAt(record.getStart(6)));
+		}
+	}
+
+	@Test
+	public void testByteOrderMark() throws Exception {
+		logger.info("testByteOrderMark");
+
+		try(MappedCsvRecordReader reader = new MappedCsvRecordReader(
+				write("﻿Book Id,Title\r\n1,Dune").toPath(), null, 2)){
+			assertEquals(Arrays.asList("Book Id", "Title"), Arrays.asList(reader.readRecord().toArray()));
+			assertEquals(Arrays.asList("1", "Dune"), Arrays.asList(reader.readRecord().toArray()));
+			assertNull(reader.readRecord());
+			assertEquals(2, reader.getRecordNumber());
+		}
+	}
+
+	@Test
+	public void testEmptyFile() throws Exception {
+		logger.info("testEmptyFile");
+
+		try(MappedCsvRecordReader reader = new MappedCsvRecordReader(write("\r\n\n").toPath())){
+			assertNull(reader.readRecord());
+			assertEquals(0, reader.getRecordNumber());
+		}
+	}
+
+	private File write(final String content) throws Exception {
+		final File file = folder.newFile();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+		return file;
+	}
+
+	private List<List<String>> readAll(final File file, final int windowSize) throws Exception {
+		List<List<String>> records = new ArrayList<>();
+
+		try(MappedCsvRecordReader reader = new MappedCsvRecordReader(file.toPath(), null, windowSize)){
+			for(CsvRecord record: reader){
+				records.add(Arrays.asList(record.toArray()));
+			}
+		}
+
+		return records;
+	}
+}
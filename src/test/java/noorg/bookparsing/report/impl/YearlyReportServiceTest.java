@@ -0,0 +1,139 @@
+package noorg.bookparsing.report.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.Contributor;
+import noorg.bookparsing.domain.YearSet;
+import noorg.bookparsing.domain.types.BookFormat;
+import noorg.bookparsing.domain.types.ContributorRole;
+import noorg.bookparsing.report.format.impl.DefaultBookFormater;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link YearlyReportService} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class YearlyReportServiceTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			YearlyReportServiceTest.class);
+
+	@Test
+	public void testStreamedMatchesString() throws IOException {
+		logger.info("testStreamedMatchesString");
+
+		final List<Book> books = books(50);
+		YearlyReportService service = new YearlyReportService(2014, 2015);
+
+		StringWriter out = new StringWriter();
+		service.generateReport(books, new DefaultBookFormater(), out);
+
+		assertEquals(service.generateReport(books, new DefaultBookFormater()),
+				out.toString());
+	}
+
+	@Test
+	public void testWrittenInPieces() throws IOException {
+		logger.info("testWrittenInPieces");
+
+		final List<Book> books = books(2000);
+		final DefaultBookFormater formatter = new DefaultBookFormater();
+		LargestAppend out = new LargestAppend();
+		new YearlyReportService(2014, 2015).generateReport(books, formatter, out);
+
+		// nothing bigger than a line of the report is written at once
+		assertTrue("Largest append: " + out.largest, out.largest < 1024);
+		assertTrue(out.total > (books.size() * 20L));
+	}
+
+	@Test
+	public void testReproducible() throws IOException {
+		logger.info("testReproducible");
+
+		// lots of books read on the same day with the same title, so only the
+		// order they were added in tells them apart
+		final List<Book> books = books(4000);
+		for(int i=0;i<books.size();i++){
+			books.get(i).setTitle("Book " + (i % 5));
+			books.get(i).setDateRead(LocalDate.of(2014 + (i % 2), 3, 1));
+		}
+
+		final String expected = new YearlyReportService(2014, 2015).generateReport(
+				books, new DefaultBookFormater());
+		for(int run=0;run<5;run++){
+			assertEquals(expected, new YearlyReportService(2014, 2015).generateReport(
+					books, new DefaultBookFormater()));
+		}
+	}
+
+	private static List<Book> books(final int count){
+		List<Book> books = new ArrayList<>();
+		for(int i=0;i<count;i++){
+			Book book = new Book();
+			book.setTitle("Book " + i);
+			book.setAuthor(new Contributor("Author", null, String.valueOf(i % 7), ContributorRole.AUTHOR));
+			book.setFormat(((i % 4) == 0) ? BookFormat.AUDIO_BOOK : BookFormat.BOOK);
+			book.setNumberOfPages(100 + i);
+			book.setYearOfPublication(1990 + (i % 30));
+			book.setMyRating(i % 6);
+			book.setYearsRead(YearSet.of(2014 + (i % 2)));
+			book.setFirstRead(book.getYearsRead().first());
+			books.add(book);
+		}
+
+		return books;
+	}
+
+	/**
+	 * Keeps track of the most written in one go, rather than what was written
+	 */
+	private static class LargestAppend implements Appendable {
+		private int largest;
+		private long total;
+
+		@Override
+		public Appendable append(final CharSequence csq) {
+			final int length = String.valueOf(csq).length();
+			largest = Math.max(largest, length);
+			total += length;
+
+			return this;
+		}
+
+		@Override
+		public Appendable append(final CharSequence csq, final int start, final int end) {
+			return append(String.valueOf(csq).subSequence(start, end));
+		}
+
+		@Override
+		public Appendable append(final char c) {
+			return append(String.valueOf(c));
+		}
+	}
+}
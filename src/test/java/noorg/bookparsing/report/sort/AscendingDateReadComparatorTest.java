@@ -56,11 +56,19 @@ public class AscendingDateReadComparatorTest {
 		
 		assertTrue("Book 1 should be first", comparator.compare(book1, book2) < 0);
 		assertTrue("Book 1 should be first", comparator.compare(book2, book1) > 0);
-		assertEquals("Books should be equal", 0, comparator.compare(book1, book3));
+		// the same day is ordered by title
+		assertTrue("Book 1 should be first", comparator.compare(book1, book3) < 0);
+		assertTrue("Book 1 should be first", comparator.compare(book3, book1) > 0);
 		assertTrue("Book 1 should be first", comparator.compare(book1, book4) < 0);
 		assertTrue("Book 1 should be first", comparator.compare(book4, book1) > 0);
-		assertEquals("Books should be equal", 0, comparator.compare(book4, book5));
-		assertEquals("Books should be equal", 0, comparator.compare(book5, book4));
+		assertTrue("Book 5 should be first", comparator.compare(book4, book5) > 0);
+		assertTrue("Book 5 should be first", comparator.compare(book5, book4) < 0);
+		assertEquals("Books should be equal", 0, comparator.compare(book5, 
+				getTestBook("Another Book with null Read Date", date3)));
+		
+		Book untitled = getTestBook(null, date1);
+		assertTrue("Untitled should be last", comparator.compare(book3, untitled) < 0);
+		assertTrue("Untitled should be last", comparator.compare(untitled, book3) > 0);
 	}
 	
 	private Book getTestBook(final String title, final String dateString) throws Exception{
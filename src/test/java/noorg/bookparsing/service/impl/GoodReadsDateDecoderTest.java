@@ -0,0 +1,64 @@
+package noorg.bookparsing.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link GoodReadsDateDecoder} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class GoodReadsDateDecoderTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			GoodReadsDateDecoderTest.class);
+
+	@Test
+	public void testDecode() {
+		logger.info("testDecode");
+
+		GoodReadsDateDecoder decoder = new GoodReadsDateDecoder();
+
+		assertEquals(LocalDate.of(2019, 3, 7), decoder.decode("2019/03/07"));
+		assertEquals(LocalDate.of(2020, 2, 29), decoder.decode("2020/02/29"));
+		assertNull(decoder.decode(null));
+		assertNull(decoder.decode(""));
+
+		// repeated dates come from the cache
+		assertSame(decoder.decode("2019/03/07"), decoder.decode("2019/03/07"));
+	}
+
+	@Test
+	public void testInvalid() {
+		logger.info("testInvalid");
+
+		GoodReadsDateDecoder decoder = new GoodReadsDateDecoder();
+
+		assertNull(decoder.decode("2019-03-07"));
+		assertNull(decoder.decode("2019/3/7"));
+		assertNull(decoder.decode("2019/13/01"));
+		assertNull(decoder.decode("2019/02/29"));
+		assertNull(decoder.decode("20x9/01/01"));
+	}
+}
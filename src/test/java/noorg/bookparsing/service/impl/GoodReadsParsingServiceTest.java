@@ -0,0 +1,326 @@
+package noorg.bookparsing.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+import noorg.bookparsing.domain.types.BookFormat;
+import noorg.bookparsing.domain.types.ContributorGender;
+import noorg.bookparsing.domain.types.ContributorRole;
+import noorg.bookparsing.io.CsvRecord;
+import noorg.bookparsing.io.CsvRecordReader;
+import noorg.bookparsing.io.MappedCsvRecordReader;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link GoodReadsParsingService} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class GoodReadsParsingServiceTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			GoodReadsParsingServiceTest.class);
+
+	private static final String TEST_HEADER =
+			"Book Id,Title,Author,Number of Pages,Bookshelves,My Review";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testReadHeader() {
+		logger.info("testReadHeader");
+
+		GoodReadsParsingService parser = new GoodReadsParsingService();
+
+		// reordered, with a column we don't know about
+		assertTrue(parser.readHeader("﻿Title,Shelf Color,Book Id,Number of Pages,Binding"));
+
+		Book book = parser.parse("Dune,Blue,42,412,Paperback");
+		assertEquals("42", book.getId());
+		assertEquals("Dune", book.getTitle());
+		assertEquals(Integer.valueOf(412), book.getNumberOfPages());
+		assertEquals(BookFormat.BOOK, book.getFormat());
+	}
+
+	@Test
+	public void testNotAHeader() {
+		logger.info("testNotAHeader");
+
+		GoodReadsParsingService parser = new GoodReadsParsingService();
+
+		assertFalse(parser.readHeader("1,Dune,Frank Herbert"));
+		assertEquals(GoodReadsColumn.values().length, parser.getColumnPlan().getColumnCount());
+	}
+
+	@Test
+	public void testProjection() {
+		logger.info("testProjection");
+
+		GoodReadsParsingService parser = new GoodReadsParsingService(
+				EnumSet.of(GoodReadsColumn.BOOK_ID, GoodReadsColumn.TITLE));
+
+		assertTrue(parser.readHeader("Book Id,Title,My Review"));
+		assertTrue(parser.getColumnPlan().isProjected(GoodReadsColumn.TITLE));
+		assertFalse(parser.getColumnPlan().isProjected(GoodReadsColumn.MY_REVIEW));
+
+		Book book = parser.parse("7,Emma,A long review");
+		assertEquals("7", book.getId());
+		assertEquals("Emma", book.getTitle());
+		assertNull(book.getMyReview());
+	}
+
+	@Test
+	public void testLazyColumns() {
+		logger.info("testLazyColumns");
+
+		GoodReadsParsingService parser = new GoodReadsParsingService(
+				EnumSet.of(GoodReadsColumn.BOOK_ID),
+				EnumSet.of(GoodReadsColumn.MY_REVIEW, GoodReadsColumn.NUMBER_OF_PAGES));
+
+		assertTrue(parser.readHeader("Book Id,Number of Pages,My Review,Title"));
+
+		LazyBook book = (LazyBook)parser.parse("7,212,A long review,Emma");
+		assertEquals("7", book.getId());
+		assertNull(book.getTitle());
+		assertTrue(book.isPending(GoodReadsColumn.MY_REVIEW));
+
+		assertEquals("A long review", book.getMyReview());
+		assertFalse(book.isPending(GoodReadsColumn.MY_REVIEW));
+
+		// setting a column replaces the raw value
+		book.setNumberOfPages(5);
+		assertFalse(book.isPending(GoodReadsColumn.NUMBER_OF_PAGES));
+		assertEquals(Integer.valueOf(5), book.getNumberOfPages());
+	}
+
+	@Test
+	public void testMalformedValues() {
+		logger.info("testMalformedValues");
+
+		GoodReadsParsingService parser = new GoodReadsParsingService();
+
+		assertTrue(parser.readHeader("Book Id,Number of Pages,Average Rating,Date Read,Read Count"));
+
+		Book book = parser.parse("1,12x,4.12,2019/13/01,3+");
+		assertNull(book.getNumberOfPages());
+		assertEquals(Float.valueOf(4.12f), book.getAverageRating());
+		assertNull(book.getDateRead());
+		assertEquals(Integer.valueOf(3), book.getReadCount());
+
+		book = parser.parse("2,-,four,,many");
+		assertEquals(Integer.valueOf(0), book.getReadCount());
+
+		ParseSummary summary = parser.getParseSummary();
+		assertEquals(2, summary.getRecordCount());
+		assertEquals(0, summary.getBadRecordCount());
+		assertEquals(2, summary.getMalformedCount(GoodReadsColumn.NUMBER_OF_PAGES));
+		assertEquals(1, summary.getMalformedCount(GoodReadsColumn.AVERAGE_RATING));
+		assertEquals(1, summary.getMalformedCount(GoodReadsColumn.DATE_READ));
+		assertEquals(1, summary.getMalformedCount(GoodReadsColumn.READ_COUNT));
+		assertEquals(5, summary.getMalformedCount());
+	}
+
+	@Test
+	public void testParseAll() {
+		logger.info("testParseAll");
+
+		final List<String> records = Arrays.asList(
+				"1,\"Dune, Part One\",Frank Herbert,412,\"sci-fi, to-read\",\"Says \"\"spice\"\" a lot\"",
+				"2,Emma,Jane Austen,300,classics,Fine",
+				"3,\"Never closed,Nobody,1,to-read,x",
+				"4,Plain,Anne Author,200,to-read,Plain");
+
+		GoodReadsParsingService single = parser(TEST_HEADER);
+		List<Book> expected = new ArrayList<>();
+		for(String record: records){
+			expected.add(single.parse(record));
+		}
+
+		List<Book> all = parser(TEST_HEADER).parseAll(records);
+		List<Book> streamed = parser(TEST_HEADER).parseStream(records.stream())
+				.collect(Collectors.toList());
+
+		assertEquals(records.size(), all.size());
+		assertEquals(records.size(), streamed.size());
+		for(int i=0;i<records.size();i++){
+			assertSameFields(expected.get(i), all.get(i));
+			assertSameFields(expected.get(i), streamed.get(i));
+		}
+
+		// nothing from a quoted field carries over to the plain record after it
+		Book emma = all.get(1);
+		assertEquals("Emma", emma.getTitle());
+		assertEquals(Integer.valueOf(300), emma.getNumberOfPages());
+		assertEquals(Arrays.asList("classics"), emma.getBookshelves());
+		assertEquals("Fine", emma.getMyReview());
+
+		// a record that can't be split is an empty book, and isn't carried over either
+		assertNull(all.get(2).getId());
+		Book plain = all.get(3);
+		assertEquals("4", plain.getId());
+		assertEquals("Plain", plain.getTitle());
+		assertEquals(Integer.valueOf(200), plain.getNumberOfPages());
+		assertEquals("Plain", plain.getMyReview());
+
+		assertEquals("Dune, Part One", all.get(0).getTitle());
+		assertEquals("Says \"spice\" a lot", all.get(0).getMyReview());
+	}
+
+	@Test
+	public void testShelfDictionaryPerParse() {
+		logger.info("testShelfDictionaryPerParse");
+
+		GoodReadsParsingService parser = new GoodReadsParsingService();
+		assertTrue(parser.readHeader("Book Id,Bookshelves"));
+
+		Book dune = parser.parse("1,\"sci-fi, to-read\"");
+		Book emma = parser.parse("2,\"classics, to-read\"");
+		assertSame(parser.getShelfDictionary(), dune.getShelfDictionary());
+		assertSame(parser.getShelfDictionary(), emma.getShelfDictionary());
+		assertEquals(3, parser.getShelfDictionary().size());
+		assertTrue(dune.hasShelf("to-read"));
+		assertFalse(dune.hasShelf("classics"));
+
+		// another parse starts from an empty dictionary
+		GoodReadsParsingService other = new GoodReadsParsingService();
+		assertTrue(other.readHeader("Book Id,Bookshelves"));
+		Book book = other.parse("3,classics");
+		assertNotSame(parser.getShelfDictionary(), book.getShelfDictionary());
+		assertEquals(1, other.getShelfDictionary().size());
+		assertEquals(0, other.getShelfDictionary().findId("classics"));
+	}
+
+	@Test
+	public void testContributorsPerBook() {
+		logger.info("testContributorsPerBook");
+
+		GoodReadsParsingService parser = new GoodReadsParsingService();
+
+		assertTrue(parser.readHeader("Book Id,Title,Author"));
+
+		Book dune = parser.parse("1,Dune,Frank Herbert");
+		Book messiah = parser.parse("2,Dune Messiah,Frank Herbert");
+
+		// the name is shared, the contributor isn't
+		assertEquals(dune.getAuthor(), messiah.getAuthor());
+		assertNotSame(dune.getAuthor(), messiah.getAuthor());
+		assertSame(dune.getAuthor().getLastName(), messiah.getAuthor().getLastName());
+		assertEquals(ContributorRole.AUTHOR, messiah.getAuthor().getRole());
+
+		dune.getAuthor().setGender(ContributorGender.MALE);
+		assertNull(messiah.getAuthor().getGender());
+	}
+
+	@Test
+	public void testRecordMatchesLine() throws Exception {
+		logger.info("testRecordMatchesLine");
+
+		final File file = folder.newFile();
+		Files.write(file.toPath(), ("Book Id,Title,Author,ISBN,ISBN13,My Rating,"
+				+ "Average Rating,Binding,Number of Pages,Year Published,Date Read,"
+				+ "Date Added,Bookshelves,My Review,Read Count,Owned Copies\r\n"
+				+ "1,Dune,Frank Herbert,\"=\"\"0441172717\"\"\",\"=\"\"9780441172719\"\"\",5,"
+				+ "4.25,Paperback,412,1990,2019/03/07,2014/01/31,\"sci-fi, own\","
+				+ "\"Great\r\nagain\",3+,1\r\n"
+				+ "2,\"Emma, Again\",Jane Austen,\"=\"\"\"\"\",,0,3.90,Audiobook,"
+				+ "-12,,,2019/13/01,,,many,x\r\n"
+				+ "3,Kindred,Octavia E. Butler,,,4,four,Kindle Edition,12x,2003,"
+				+ "2020/02/29,,to-read,Señora,,\r\n").getBytes(StandardCharsets.UTF_8));
+
+		GoodReadsParsingService lineParser = new GoodReadsParsingService();
+		List<Book> expected = new ArrayList<>();
+		try(CsvRecordReader reader = new CsvRecordReader(new FileInputStream(file))){
+			assertTrue(lineParser.readHeader(reader.readRecord()));
+			for(String record: reader){
+				expected.add(lineParser.parse(record));
+			}
+		}
+
+		GoodReadsParsingService recordParser = new GoodReadsParsingService();
+		List<Book> actual = new ArrayList<>();
+		try(MappedCsvRecordReader reader = new MappedCsvRecordReader(file.toPath())){
+			assertTrue(recordParser.readHeader(reader.readRecord().toArray()));
+			reader.setColumns(recordParser.getColumnPlan().getColumnMask());
+			for(CsvRecord record: reader){
+				actual.add(recordParser.parseRecord(record));
+			}
+		}
+
+		assertEquals(3, actual.size());
+		for(int i=0;i<expected.size();i++){
+			assertSameFields(expected.get(i), actual.get(i));
+		}
+		assertEquals("0441172717\"", actual.get(0).getIsbn());
+		assertEquals(Integer.valueOf(3), actual.get(0).getReadCount());
+
+		final ParseSummary lineSummary = lineParser.getParseSummary();
+		final ParseSummary recordSummary = recordParser.getParseSummary();
+		assertEquals(5, lineSummary.getMalformedCount());
+		for(GoodReadsColumn column: GoodReadsColumn.values()){
+			assertEquals(column.name(), lineSummary.getMalformedCount(column),
+					recordSummary.getMalformedCount(column));
+		}
+	}
+
+	private static GoodReadsParsingService parser(final String header){
+		GoodReadsParsingService parser = new GoodReadsParsingService();
+		assertTrue(parser.readHeader(header));
+
+		return parser;
+	}
+
+	private static void assertSameFields(final Book expected, final Book actual){
+		final String id = expected.getId();
+		assertEquals(id, expected.getId(), actual.getId());
+		assertEquals(id, expected.getTitle(), actual.getTitle());
+		assertEquals(id, expected.getAuthor(), actual.getAuthor());
+		assertEquals(id, expected.getIsbn(), actual.getIsbn());
+		assertEquals(id, expected.getIsbn13(), actual.getIsbn13());
+		assertEquals(id, expected.getMyRating(), actual.getMyRating());
+		assertEquals(id, expected.getAverageRating(), actual.getAverageRating());
+		assertEquals(id, expected.getFormat(), actual.getFormat());
+		assertEquals(id, expected.getNumberOfPages(), actual.getNumberOfPages());
+		assertEquals(id, expected.getYearOfPublication(), actual.getYearOfPublication());
+		assertEquals(id, expected.getDateRead(), actual.getDateRead());
+		assertEquals(id, expected.getDateAdded(), actual.getDateAdded());
+		assertEquals(id, expected.getBookshelves(), actual.getBookshelves());
+		assertEquals(id, expected.getMyReview(), actual.getMyReview());
+		assertEquals(id, expected.getReadCount(), actual.getReadCount());
+		assertEquals(id, expected.getOwnedCopies(), actual.getOwnedCopies());
+	}
+}
@@ -0,0 +1,104 @@
+package noorg.bookparsing.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link NumberDecoder} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class NumberDecoderTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			NumberDecoderTest.class);
+
+	@Test
+	public void testDecodeInt() {
+		logger.info("testDecodeInt");
+
+		assertEquals(0, NumberDecoder.decodeInt("0", 0, 1));
+		assertEquals(-42, NumberDecoder.decodeInt("-42", 0, 3));
+		assertEquals(Integer.MAX_VALUE, NumberDecoder.decodeInt("2147483647", 0, 10));
+		assertEquals(Integer.MIN_VALUE, NumberDecoder.decodeInt("-2147483648", 0, 11));
+		assertEquals(3, NumberDecoder.decodeInt("3+", 0, 1));
+
+		for(String malformed: new String[]{"", "-", "12x", "2147483648", "1.5", " 1"}){
+			assertEquals(malformed, NumberDecoder.MALFORMED,
+					NumberDecoder.decodeInt(malformed, 0, malformed.length()));
+		}
+	}
+
+	@Test
+	public void testDecodeFloat() {
+		logger.info("testDecodeFloat");
+
+		final String[] values = {"0", "-0", "4.12", "3.90", "+1", ".5", "5.",
+				"0.1", "16777216", "16777217", "123456789.123", "0.00000000001",
+				"340282350000000000000000000000000000000"};
+		for(String value: values){
+			assertEquals(value, Float.floatToIntBits(Float.parseFloat(value)),
+					Float.floatToIntBits(NumberDecoder.decodeFloat(value, 0, value.length())));
+		}
+
+		// part of a longer value
+		assertEquals(4.12f, NumberDecoder.decodeFloat("x4.12x", 1, 5), 0f);
+	}
+
+	@Test
+	public void testDecodeFloatMatchesParse() {
+		logger.info("testDecodeFloatMatchesParse");
+
+		final Random random = new Random(42);
+		for(int i=0;i<100000;i++){
+			final int fractionDigits = random.nextInt(12);
+			final long whole = random.nextInt(1 << random.nextInt(31));
+			StringBuilder sb = new StringBuilder();
+			if(random.nextBoolean()){
+				sb.append('-');
+			}
+			sb.append(whole);
+			if(fractionDigits > 0){
+				sb.append('.');
+				for(int d=0;d<fractionDigits;d++){
+					sb.append((char)('0' + random.nextInt(10)));
+				}
+			}
+
+			final String value = sb.toString();
+			assertEquals(value, Float.floatToIntBits(Float.parseFloat(value)),
+					Float.floatToIntBits(NumberDecoder.decodeFloat(value, 0, value.length())));
+		}
+	}
+
+	@Test
+	public void testMalformedFloat() {
+		logger.info("testMalformedFloat");
+
+		for(String malformed: new String[]{"", "-", ".", "four", "1.2.3", "1e5",
+				"NaN", "Infinity", "0x1p3", "4.12f", " 4"}){
+			assertTrue(malformed, Float.isNaN(
+					NumberDecoder.decodeFloat(malformed, 0, malformed.length())));
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package noorg.bookparsing.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import noorg.bookparsing.domain.Book;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link ParallelParsingService} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class ParallelParsingServiceTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			ParallelParsingServiceTest.class);
+
+	private static final String HEADER = "Book Id,Title,Number of Pages";
+	private static final int CHUNK_SIZE = ParallelParsingService.DEFAULT_CHUNK_SIZE;
+
+	@Test
+	public void testInputOrder() {
+		logger.info("testInputOrder");
+
+		final int[] counts = {0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1,
+				2 * CHUNK_SIZE, 3 * CHUNK_SIZE + 7};
+		for(int count: counts){
+			List<Book> books = parseParallel(records(count));
+
+			assertEquals(count, books.size());
+			for(int i=0;i<count;i++){
+				assertEquals(count + " records", String.valueOf(i), books.get(i).getId());
+			}
+		}
+	}
+
+	@Test
+	public void testNullInput() {
+		logger.info("testNullInput");
+
+		try(ParallelParsingService<String, Book> parser = new ParallelParsingService<>(
+				parser(), 4)){
+			assertEquals(Collections.emptyList(), parser.parseAll(null));
+		}
+	}
+
+	@Test
+	public void testMalformedRecord() {
+		logger.info("testMalformedRecord");
+
+		// a short record and a bad number, both in the middle of the second chunk
+		List<String> records = records(2 * CHUNK_SIZE + 10);
+		records.set(CHUNK_SIZE + 100, (CHUNK_SIZE + 100) + ",Short");
+		records.set(CHUNK_SIZE + 200, (CHUNK_SIZE + 200) + ",Bad Pages,12x");
+
+		GoodReadsParsingService sequential = parser();
+		List<Book> expected = sequential.parseAll(records);
+
+		GoodReadsParsingService delegate = parser();
+		List<Book> actual;
+		try(ParallelParsingService<String, Book> parser = new ParallelParsingService<>(
+				delegate, 4)){
+			actual = parser.parseAll(records);
+		}
+
+		assertEquals(expected.size(), actual.size());
+		for(int i=0;i<expected.size();i++){
+			assertEquals(expected.get(i).getId(), actual.get(i).getId());
+			assertEquals(expected.get(i).getTitle(), actual.get(i).getTitle());
+			assertEquals(expected.get(i).getNumberOfPages(), actual.get(i).getNumberOfPages());
+		}
+		assertNull(actual.get(CHUNK_SIZE + 100).getNumberOfPages());
+		assertNull(actual.get(CHUNK_SIZE + 200).getNumberOfPages());
+
+		final ParseSummary expectedSummary = sequential.getParseSummary();
+		final ParseSummary actualSummary = delegate.getParseSummary();
+		assertTrue(actualSummary.hasErrors());
+		assertEquals(expectedSummary.getRecordCount(), actualSummary.getRecordCount());
+		assertEquals(1, actualSummary.getBadRecordCount());
+		assertEquals(expectedSummary.getBadRecordCount(), actualSummary.getBadRecordCount());
+		assertEquals(expectedSummary.getMalformedCount(), actualSummary.getMalformedCount());
+	}
+
+	private static List<Book> parseParallel(final List<String> records){
+		try(ParallelParsingService<String, Book> parser = new ParallelParsingService<>(
+				parser(), 4)){
+			return parser.parseAll(records);
+		}
+	}
+
+	private static GoodReadsParsingService parser(){
+		GoodReadsParsingService parser = new GoodReadsParsingService();
+		assertTrue(parser.readHeader(HEADER));
+
+		return parser;
+	}
+
+	private static List<String> records(final int count){
+		List<String> records = new ArrayList<>(count);
+		for(int i=0;i<count;i++){
+			records.add(i + ",Title " + i + "," + (100 + i));
+		}
+
+		return records;
+	}
+}
@@ -0,0 +1,159 @@
+package noorg.bookparsing.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link FixedPointFormat} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class FixedPointFormatTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			FixedPointFormatTest.class);
+
+	@Test
+	public void testSpecialValues() {
+		logger.info("testSpecialValues");
+
+		final double[] values = {0.0, -0.0, 0.5, -0.5, 0.001, -0.001, 0.125, 0.135,
+				0.375, 1.005, 2.675, 0.995, 99.995, 12, 12.5, 1234567.891, 1e-10,
+				1e15, 1e20, 4.0 / 3, Double.MIN_VALUE, Double.MAX_VALUE,
+				45035996273704.955, 45035996273704.125, 4503599627370495.5,
+				9007199254740993.0, 1.2345678901234567e17,
+				Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+
+		FixedPointFormat format = new FixedPointFormat(2);
+		DecimalFormat expected = decimalFormat("###.##");
+		for(double value: values){
+			assertEquals(Double.toString(value), expected.format(value), format.format(value));
+		}
+	}
+
+	@Test
+	public void testMatchesDecimalFormat() {
+		logger.info("testMatchesDecimalFormat");
+
+		final Random random = new Random(42);
+		final int[] fractionDigits = {0, 1, 2, 4};
+		final String[] patterns = {"#", "#.#", "###.##", "#.####"};
+		for(int p=0;p<patterns.length;p++){
+			FixedPointFormat format = new FixedPointFormat(fractionDigits[p]);
+			DecimalFormat expected = decimalFormat(patterns[p]);
+
+			for(int i=0;i<20000;i++){
+				// averages of whole numbers land on ties, so include plenty of those
+				final double value = ((i % 2) == 0) ?
+						(random.nextInt(100000) - 50000) / (double)(1 + random.nextInt(64)) :
+						(random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12));
+				assertEquals(Double.toString(value), expected.format(value), format.format(value));
+			}
+		}
+	}
+
+	@Test
+	public void testAppendsToBuffer() {
+		logger.info("testAppendsToBuffer");
+
+		StringBuilder sb = new StringBuilder("Average: ");
+		new FixedPointFormat(2).format(3.14159, sb).append('!');
+
+		assertEquals("Average: 3.14!", sb.toString());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testTooManyDigits() {
+		logger.info("testTooManyDigits");
+
+		new FixedPointFormat(10);
+	}
+
+	@Test
+	public void testShared() throws Exception {
+		logger.info("testShared");
+
+		final FixedPointFormat format = new FixedPointFormat(2);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for(int thread=0;thread<4;thread++){
+				final int seed = thread;
+				futures.add(executor.submit(() -> {
+					// each thread has its own DecimalFormat to check against
+					DecimalFormat expected = decimalFormat("###.##");
+					Random random = new Random(seed);
+					for(int i=0;i<20000;i++){
+						final double value = random.nextInt(1000000) / 64.0;
+						assertEquals(expected.format(value), format.format(value));
+					}
+				}));
+			}
+
+			for(Future<?> future: futures){
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testPercentMatchesFormat() {
+		logger.info("testPercentMatchesFormat");
+
+		for(int total=1;total<=400;total++){
+			for(int count=0;count<=total;count++){
+				StringBuilder sb = new StringBuilder();
+				FixedPointFormat.appendPercent(sb, count, total);
+
+				assertEquals(count + "/" + total,
+						String.format("%.2f", ((double)(count * 100)) / total), sb.toString());
+			}
+		}
+	}
+
+	@Test
+	public void testPercentOfNothing() {
+		logger.info("testPercentOfNothing");
+
+		StringBuilder sb = new StringBuilder();
+		FixedPointFormat.appendPercent(sb, 0, 0);
+		assertEquals(String.format("%.2f", 0.0 / 0), sb.toString());
+
+		sb.setLength(0);
+		FixedPointFormat.appendPercent(sb, 2, 0);
+		assertEquals(String.format("%.2f", 200.0 / 0), sb.toString());
+	}
+
+	private static DecimalFormat decimalFormat(final String pattern){
+		return new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+	}
+}
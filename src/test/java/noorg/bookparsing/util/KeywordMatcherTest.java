@@ -0,0 +1,56 @@
+package noorg.bookparsing.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Copyright 2026 Robert J. Zak
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * <p>    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * <p>Test the {@link KeywordMatcher} class
+ *
+ * @author Robert J. Zak
+ *
+ */
+public class KeywordMatcherTest {
+	private static Logger logger = LoggerFactory.getLogger(
+			KeywordMatcherTest.class);
+
+	@Test
+	public void testMatch() {
+		logger.info("testMatch");
+
+		KeywordMatcher matcher = new KeywordMatcher("fantasy", "horror", "or",
+				"scifi");
+
+		assertEquals(0b0001, matcher.match("urban-fantasy"));
+		// overlapping keywords are all found
+		assertEquals(0b0110, matcher.match("horror"));
+		assertEquals(0b0100, matcher.match("short-stories"));
+		assertEquals(0b1001, matcher.match("fantasy-and-scifi"));
+		assertEquals(0, matcher.match("to-read"));
+		assertEquals(0, matcher.match(""));
+		assertEquals(0, matcher.match(null));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testEmptyKeyword() {
+		logger.info("testEmptyKeyword");
+
+		new KeywordMatcher("fantasy", "");
+	}
+}